@@ -0,0 +1,41 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: BenchmarkRunner.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Runs the engine benchmarks with the GC profiler attached,
+// so each result shows ops/us next to bytes allocated per op
+// Results also go to a JSON file for comparing runs
+//
+//*********************************************
+
+package solitaire.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+
+    // Usage: BenchmarkRunner [includeRegex] [resultFile]
+    // e.g. BenchmarkRunner Spider  -> only SpiderBenchmarks
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "solitaire\\.bench\\..*";
+        String resultFile = args.length > 1 ? args[1] : "bench-result.json";
+
+        Options opts = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -0,0 +1,83 @@
+package solitaire.bench;
+
+//*********************************************
+// Klondike Solitaire – Prototype 2
+// File: KlondikeBenchmarks.java
+//
+// Author: Jenascia Drew
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// JMH benchmarks for the Klondike engine:
+// dealing a new game and the tableau placement rule
+//*********************************************
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import solitaire.core.PileType;
+import solitaire.klondike.engine.KlondikeGame;
+import solitaire.klondike.model.Card;
+import solitaire.klondike.model.Pile;
+import solitaire.klondike.model.Suit;
+import solitaire.klondike.rules.KlondikeRules;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KlondikeBenchmarks {
+
+    // ----- KlondikeGame.newGame -----
+
+    @State(Scope.Thread)
+    public static class DealState {
+        final KlondikeGame game = new KlondikeGame();
+        long seed;
+    }
+
+    @Benchmark
+    public KlondikeGame newGame(DealState s) {
+        s.game.newGame(s.seed++);
+        return s.game;
+    }
+
+    // ----- KlondikeRules.canPlaceOnTableau -----
+
+    @State(Scope.Thread)
+    public static class PlaceState {
+        final Pile empty = new Pile(PileType.TABLEAU);
+        final Pile blackQueen = new Pile(PileType.TABLEAU);
+        Card redJack, blackJack, king;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            blackQueen.push(Card.of(Suit.SPADES, 12));
+            redJack = Card.of(Suit.HEARTS, 11);
+            blackJack = Card.of(Suit.CLUBS, 11);
+            king = Card.of(Suit.DIAMONDS, 13);
+        }
+    }
+
+    // Legal, wrong colour, and king-to-empty in one call
+    @Benchmark
+    public void canPlaceOnTableau(PlaceState s, Blackhole bh) {
+        bh.consume(KlondikeRules.canPlaceOnTableau(s.redJack, s.blackQueen));
+        bh.consume(KlondikeRules.canPlaceOnTableau(s.blackJack, s.blackQueen));
+        bh.consume(KlondikeRules.canPlaceOnTableau(s.king, s.empty));
+    }
+}
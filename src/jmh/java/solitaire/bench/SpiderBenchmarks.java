@@ -0,0 +1,191 @@
+//*********************************************
+// Spider Solitaire – Prototype 2
+// File: SpiderBenchmarks.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// JMH benchmarks for the Spider engine hot paths:
+// rule checks, run extraction, pile slicing, dealing and
+// position snapshots (GameSnapshot should stay under 1 us)
+// Run through BenchmarkRunner to get GC profiler numbers
+//
+//*********************************************
+
+package solitaire.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import solitaire.core.PileType;
+import solitaire.spider.engine.GameSnapshot;
+import solitaire.spider.engine.SpiderGame;
+import solitaire.spider.engine.SpiderState;
+import solitaire.spider.model.Card;
+import solitaire.spider.model.Pile;
+import solitaire.spider.model.Suit;
+import solitaire.spider.rules.SpiderRules;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpiderBenchmarks {
+
+    // Same-suit descending run of the given length on top of two face-down cards
+    static Pile runPile(int length) {
+        Pile p = new Pile(PileType.TABLEAU);
+        p.pushFaceDown(Card.of(Suit.HEARTS, 13));
+        p.pushFaceDown(Card.of(Suit.CLUBS, 13));
+        for (int r = length; r >= 1; r--) p.push(Card.of(Suit.SPADES, r));
+        return p;
+    }
+
+    // ----- SpiderRules.canMove -----
+
+    @State(Scope.Thread)
+    public static class RunState {
+        @Param({"1", "4", "13"})
+        public int length;
+
+        final SpiderRules rules = new SpiderRules();
+        Pile from;
+        final Pile empty = new Pile(PileType.TABLEAU);
+
+        @Setup(Level.Trial)
+        public void setup() { from = runPile(length); }
+    }
+
+    @Benchmark
+    public boolean canMoveWholeRun(RunState s) {
+        return s.rules.canMove(s.from, s.length, s.empty);
+    }
+
+    @Benchmark
+    public boolean canMoveTopCard(RunState s) {
+        return s.rules.canMove(s.from, 1, s.empty);
+    }
+
+    // ----- Pile.takeTop (and the copy-free moveTopTo) -----
+
+    @Benchmark
+    public void takeTopAndAddBack(RunState s, Blackhole bh) {
+        List<Card> run = s.from.takeTop(s.length);
+        s.from.addRun(run);
+        bh.consume(run);
+    }
+
+    @Benchmark
+    public void moveTopToAndBack(RunState s) {
+        s.from.moveTopTo(s.empty, s.length);
+        s.empty.moveTopTo(s.from, s.length);
+    }
+
+    // ----- SpiderGame.extractCompletedRuns -----
+
+    @State(Scope.Thread)
+    public static class ExtractState {
+        final SpiderGame plain = new SpiderGame();
+        final SpiderGame withRun = new SpiderGame();
+
+        @Setup(Level.Trial)
+        public void setup() {
+            plain.newGame(42, false);
+
+            // Column 0 ends in a full K..A run, ready to extract
+            withRun.newGame(42, true);
+            Pile col = withRun.tableaux.get(0);
+            col.clear();
+            col.pushFaceDown(Card.of(Suit.SPADES, 5));
+            for (int r = 13; r >= 1; r--) col.push(Card.of(Suit.SPADES, r));
+        }
+    }
+
+    // Common case after a move: scan all columns, nothing to extract
+    @Benchmark
+    public void extractNothing(ExtractState s) {
+        s.plain.extractCompletedRuns();
+    }
+
+    // Extract one run, then undo it so the next call finds it again
+    @Benchmark
+    public void extractOneRunAndUndo(ExtractState s) {
+        s.withRun.extractCompletedRuns();
+        s.withRun.undo();
+    }
+
+    // ----- SpiderGame.newGame -----
+
+    @State(Scope.Thread)
+    public static class DealState {
+        final SpiderGame game = new SpiderGame();
+        long seed;
+    }
+
+    @Benchmark
+    public SpiderGame newGameFourSuit(DealState s) {
+        s.game.newGame(s.seed++, false);
+        return s.game;
+    }
+
+    // ----- SpiderGame.snapshot -----
+
+    @State(Scope.Thread)
+    public static class SnapshotState {
+        final SpiderGame game = new SpiderGame();
+        int move;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            game.newGame(42, false);
+            int[] moves = new int[SpiderState.MAX_MOVES];
+            game.generateMoves(moves);
+            move = moves[0];
+        }
+    }
+
+    // Nothing changed since the last one: the same snapshot back
+    @Benchmark
+    public GameSnapshot snapshotUnchanged(SnapshotState s) {
+        return s.game.snapshot();
+    }
+
+    // Baseline for the next one: a move and its undo alone
+    @Benchmark
+    public void moveAndUndo(SnapshotState s) {
+        s.game.applyMove(s.move);
+        s.game.undo();
+    }
+
+    // Two snapshots, each repacking only the piles the move touched
+    @Benchmark
+    public void moveAndUndoWithSnapshots(SnapshotState s, Blackhole bh) {
+        s.game.applyMove(s.move);
+        bh.consume(s.game.snapshot());
+        s.game.undo();
+        bh.consume(s.game.snapshot());
+    }
+
+    // Full packed copy, for comparison
+    @Benchmark
+    public SpiderState saveState(SnapshotState s) {
+        return s.game.saveState();
+    }
+}
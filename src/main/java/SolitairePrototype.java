@@ -14,6 +14,10 @@
 // - Spider variant with game-backed SpiderController
 // - Playable Pyramid (Deal/Undo, win, HUD, timer)
 // - Exit confirmation + Rules/Hints menus
+// - One board per variant, kept and re-dealt on New from a
+//   background DealPool of ready deals
+// - Hint button: Spider and Klondike search for a move in
+//   the background and show it in the status bar
 //*********************************************
 // On 11/19/25, added events so Spider can call onMove, onScore, and onWin
 
@@ -29,21 +33,33 @@ import javafx.stage.Stage;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.function.Supplier;
 
+import solitaire.core.DealId;
+import solitaire.core.DealPool;
 import solitaire.core.GameEvents;
 import solitaire.core.Theme;
 import solitaire.core.ThemeManager;
+import solitaire.core.WinnableCatalogue;
 
 // Spider
 import solitaire.spider.ui.SpiderController;
 import solitaire.spider.ui.Basics;
+import solitaire.spider.solver.SpiderSolver;
 
 // Klondike
 import solitaire.klondike.engine.KlondikeGame;
 import solitaire.klondike.ui.PileView;
 import solitaire.klondike.ui.FoundationView;
 import solitaire.klondike.ui.KlondikeBoardFactory;
+import solitaire.klondike.solver.KlondikeSolver;
+
+// Pyramid
+import solitaire.pyramid.engine.PyramidGame;
 
 // ---------- tiny callback contracts ----------
 // GameEvents now in solitaire.core.GameEvents
@@ -51,6 +67,13 @@ import solitaire.klondike.ui.KlondikeBoardFactory;
 interface BoardActions {
     void deal();
     void undo();
+    // Called after the theme stylesheet is swapped
+    default void themeChanged() {}
+    // Deals into the existing board; false if the board must be rebuilt instead
+    default boolean newGame(DealId deal) { return false; }
+    // Starts a background search for a move; results come via GameEvents.onHint
+    default void hint() {}
+    default void cancelHint() {}
 }
 
 
@@ -69,6 +92,8 @@ public class SolitairePrototype extends Application {
     private final Label lblScore = new Label("Score: 0");
     private final Label lblMoves = new Label("Moves: 0");
     private final Label lblTime  = new Label("Time: 00:00");
+    private final Label lblHint  = new Label();
+    private final Label lblDeal  = new Label();
 
     // HUD state
     private int moves = 0;
@@ -92,6 +117,24 @@ public class SolitairePrototype extends Application {
 
     // Remember SpiderController
     private SpiderController currentSpider = null;
+    private SpiderController spider = null;
+
+    // One board per variant, built once and dealt into again on New
+    private final Map<String, BoardHandle> boards = new HashMap<>();
+
+    // Ready deals per variant, filled in the background
+    private static final int POOL_SIZE = 8;
+    private final Map<String, DealPool> pools = new HashMap<>();
+
+    // Game > Winnable Deals Only: Spider and Klondike deals come from
+    // catalogues of solver-checked deals, kept in ~/.solitaire
+    private boolean winnableOnly = false;
+    private final Map<String, WinnableCatalogue> catalogues = new HashMap<>();
+    private static final Path CATALOGUE_DIR = Paths.get(System.getProperty("user.home"), ".solitaire");
+    private static final int SOLVER_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+
+    // Polls the pool while New waits for the first checked deal
+    private javafx.animation.Timeline dealWait;
 
     @Override
     public void start(Stage stage) {
@@ -106,6 +149,7 @@ public class SolitairePrototype extends Application {
         root.setBottom(buildStatusBar());
 
         Scene scene = new Scene(root, 1000, 650);
+        ThemeManager.install(scene);
         stage.setTitle("Solitaire – GUI Prototype");
         stage.setScene(scene);
         stage.show();
@@ -115,6 +159,21 @@ public class SolitairePrototype extends Application {
         cboVariant.valueProperty().addListener((obs, o, v) -> rebuildBoard(v, root));
 
         rebuildBoard(cboVariant.getValue(), root);
+
+        // Build the other boards once the window is up, so the first
+        // switch to them is as quick as a New
+        javafx.application.Platform.runLater(() -> {
+            for (String v : cboVariant.getItems()) {
+                pool(v);
+                if (!boards.containsKey(v)) boards.put(v, buildBoard(v, root));
+            }
+        });
+    }
+
+    @Override
+    public void stop() {
+        pools.values().forEach(DealPool::close);
+        catalogues.values().forEach(WinnableCatalogue::close);
     }
 
     // ---------- Menu bar ----------
@@ -135,13 +194,22 @@ public class SolitairePrototype extends Application {
         alertFNF.setHeaderText("File Not Found");
         alertFNF.setContentText("The requested file could not be located.");
 
+        CheckMenuItem miWinnable = new CheckMenuItem("Winnable Deals Only");
+
         miNew.setOnAction(e -> rebuildBoard(cboVariant.getValue(), root));
         miReset.setOnAction(e -> rebuildBoard(cboVariant.getValue(), root));
+        miWinnable.setOnAction(e -> {
+            winnableOnly = miWinnable.isSelected();
+            // Pools are made again with the new setting and start filling now
+            pools.values().forEach(DealPool::close);
+            pools.clear();
+            for (String v : cboVariant.getItems()) pool(v);
+        });
         miExit.setOnAction(e -> {
             Optional<ButtonType> result = alertExitMB.showAndWait();
             if (result.isPresent() && result.get() == ButtonType.OK) System.exit(0);
         });
-        mGame.getItems().addAll(miNew, miReset, new SeparatorMenuItem(), miExit);
+        mGame.getItems().addAll(miNew, miReset, miWinnable, new SeparatorMenuItem(), miExit);
 
         // Updated 12/2/25: Spider Hints
         Menu mView = new Menu("View");
@@ -197,9 +265,10 @@ public class SolitairePrototype extends Application {
         MenuItem miOcean = new MenuItem("Ocean");
         MenuItem miDark = new MenuItem("Dark Mode");
 
-        miClassic.setOnAction(e -> { ThemeManager.setTheme(Theme.CLASSIC); rebuildBoard(cboVariant.getValue(), root); });
-        miOcean.setOnAction(e -> { ThemeManager.setTheme(Theme.OCEAN); rebuildBoard(cboVariant.getValue(), root); });
-        miDark.setOnAction(e -> { ThemeManager.setTheme(Theme.DARK); rebuildBoard(cboVariant.getValue(), root); });
+        // Swaps the stylesheet only; the game in progress is kept
+        miClassic.setOnAction(e -> setTheme(Theme.CLASSIC));
+        miOcean.setOnAction(e -> setTheme(Theme.OCEAN));
+        miDark.setOnAction(e -> setTheme(Theme.DARK));
 
         mThemes.getItems().addAll(miClassic, miOcean, miDark);
 
@@ -231,6 +300,7 @@ public class SolitairePrototype extends Application {
         Button btnNew  = new Button("New");
         Button btnDeal = new Button("Deal/Draw");
         Button btnUndo = new Button("Undo");
+        Button btnHint = new Button("Hint");
         Button btnExit = new Button("Exit");
 
         Alert alertExitB = new Alert(Alert.AlertType.CONFIRMATION);
@@ -244,6 +314,7 @@ public class SolitairePrototype extends Application {
         });
         btnDeal.setOnMouseReleased(e -> actions.deal());
         btnUndo.setOnMouseReleased(e -> actions.undo());
+        btnHint.setOnMouseReleased(e -> actions.hint());
         btnExit.setOnMouseReleased(e -> {
             Optional<ButtonType> result = alertExitB.showAndWait();
             if (result.isPresent() && result.get() == ButtonType.OK) System.exit(0);
@@ -257,7 +328,7 @@ public class SolitairePrototype extends Application {
         return new ToolBar(
                 new Label("Variant:"), cboVariant,
                 new Separator(),
-                btnNew, btnDeal, btnUndo,
+                btnNew, btnDeal, btnUndo, btnHint,
                 spacer,
                 btnExit
         );
@@ -268,8 +339,10 @@ public class SolitairePrototype extends Application {
         lblScore.setFont(Font.font(13));
         lblMoves.setFont(Font.font(13));
         lblTime.setFont(Font.font(13));
+        lblHint.setFont(Font.font(13));
+        lblDeal.setFont(Font.font(13));
 
-        HBox status = new HBox(20, lblScore, lblMoves, lblTime);
+        HBox status = new HBox(20, lblScore, lblMoves, lblTime, lblHint, lblDeal);
         status.setPadding(new Insets(8));
         status.setAlignment(Pos.CENTER_LEFT);
         status.setStyle("""
@@ -288,6 +361,7 @@ public class SolitairePrototype extends Application {
         lblMoves.setText("Moves: 0");
         lblScore.setText("Score: 0");
         lblTime.setText("Time: 00:00");
+        lblHint.setText("");
     }
 
     private void startTimer() {
@@ -303,12 +377,112 @@ public class SolitairePrototype extends Application {
         timer.play();
     }
 
+    // Hidden boards keep their card images too, so tell every board
+    private void setTheme(Theme theme) {
+        ThemeManager.setTheme(theme);
+        boards.values().forEach(b -> b.actions.themeChanged());
+    }
+
+    private DealPool pool(String variant) {
+        return pools.computeIfAbsent(variant, v -> {
+            Supplier<WinnableCatalogue.Checker> checkers = switch (v) {
+                case "Spider" -> () -> SpiderSolver.checker(true, 3_000);
+                case "Klondike" -> () -> KlondikeSolver.checker(KlondikeSolver.DEFAULT_DRAW_COUNT, 2_000);
+                default -> null;
+            };
+            WinnableCatalogue c = winnableOnly && checkers != null ? catalogue(v) : null;
+            return c != null ? c.pool(POOL_SIZE, SOLVER_THREADS, checkers) : new DealPool(v, POOL_SIZE);
+        });
+    }
+
+    // Opened once and kept, so each deal is only ever solved once
+    private WinnableCatalogue catalogue(String variant) {
+        return catalogues.computeIfAbsent(variant, v -> {
+            try {
+                // Named for the rules the deals were checked under
+                String name = v.equals("Spider") ? "spider-1suit" : "klondike-draw" + KlondikeSolver.DEFAULT_DRAW_COUNT;
+                return WinnableCatalogue.open(CATALOGUE_DIR, name);
+            } catch (IOException ex) {
+                System.err.println("Winnable deals unavailable for " + v + ": " + ex.getMessage());
+                return null;
+            }
+        });
+    }
+
     // ---------- Board rebuild ----------
+    // Boards are kept per variant: New deals a pooled deal into the
+    // existing views, and only builds a board the first time (or if
+    // the board can't take a new deal right now)
+    // With Winnable Deals Only on and nothing checked yet, the current
+    // game stays up and the new deal comes once the pool has one
     private BoardHandle rebuildBoard(String variant, BorderPane root) {
+        if (dealWait != null) dealWait.stop();
+        DealId deal = pool(variant).next();
+        if (deal == null) {
+            waitForDeal(variant, root);
+            return new BoardHandle(board, actions);
+        }
+        return showDeal(variant, deal, root);
+    }
+
+    private void waitForDeal(String variant, BorderPane root) {
+        lblDeal.setText("Finding a winnable deal…");
+        dealWait = new javafx.animation.Timeline(
+                new javafx.animation.KeyFrame(javafx.util.Duration.millis(250), e -> {
+                    DealId deal = pool(variant).next();
+                    if (deal == null) return;
+                    dealWait.stop();
+                    showDeal(variant, deal, root);
+                })
+        );
+        dealWait.setCycleCount(javafx.animation.Animation.INDEFINITE);
+        dealWait.play();
+    }
+
+    private BoardHandle showDeal(String variant, DealId deal, BorderPane root) {
+        lblDeal.setText("");
+        actions.cancelHint();
         resetHud();
         startTimer();
         totalGames++; // Added count new attempt on 11/20/25
 
+        BoardHandle handle = boards.get(variant);
+        if (handle == null || !handle.actions.newGame(deal)) {
+            handle = buildBoard(variant, root);
+            boards.put(variant, handle);
+            handle.actions.newGame(deal);
+        }
+        currentSpider = variant.equals("Spider") ? spider : null;
+
+        // Apply to UI
+        BorderPane.setAlignment(handle.view, Pos.CENTER);
+        BorderPane.setMargin(handle.view, new Insets(0));
+        root.setCenter(handle.view);
+
+        board   = handle.view;
+        actions = handle.actions;
+
+        // Force theme to apply to CENTER AREA, not inside ScrollPane content
+        if (handle.view instanceof ScrollPane sp) {
+            if (sp.getContent() instanceof javafx.scene.layout.Region r) {
+                ThemeManager.applyBackground(r);
+            }
+        } else if (handle.view instanceof javafx.scene.layout.Region r) {
+            ThemeManager.applyBackground(r);
+        }
+
+
+        // Sync HUD with Spider stats
+        if (currentSpider != null) {
+            lblMoves.setText("Moves: " + currentSpider.getMoveCount());
+            lblScore.setText("Score: " + currentSpider.getScore());
+        }
+
+        return handle;
+    }
+
+    // Builds the views and controller for a variant
+    private BoardHandle buildBoard(String variant, BorderPane root) {
         GameEvents events = new GameEvents() {
             @Override public void onMove() {
                 moves++;
@@ -362,66 +536,46 @@ public class SolitairePrototype extends Application {
             @Override public void onReset() {
                 resetHud();
             }
+
+            @Override public void onHint(String text) {
+                lblHint.setText(text == null ? "" : "Hint: " + text);
+            }
         };
 
         // Pick the game board
         // Updated 11/19/25 to call move, score, and win to Spider
-        BoardHandle handle = switch (variant) {
+        return switch (variant) {
             case "Spider" -> {
-                currentSpider = new SpiderController(events);
-                var spiderBoard = currentSpider.createSpiderBoard();
+                var s = new SpiderController(events);
+                spider = s;
+                var spiderBoard = s.createSpiderBoard();
                 yield new BoardHandle(spiderBoard, new BoardActions() {
-                    @Override public void deal() { currentSpider.onDeal(); }
-                    @Override public void undo() { currentSpider.onUndo(); }
+                    @Override public void deal() { s.onDeal(); }
+                    @Override public void undo() { s.onUndo(); }
+                    @Override public void themeChanged() { s.onThemeChanged(); }
+                    @Override public boolean newGame(DealId deal) { return s.onNewGame(deal); }
+                    @Override public void hint() { s.onHint(); }
+                    @Override public void cancelHint() { s.stopHint(); }
                 });
             }
 
             case "Klondike" -> {
-                currentSpider = null;
-                var k = new solitaire.klondike.ui.KlondikeController();
+                var k = new solitaire.klondike.ui.KlondikeController(events);
                 var view = k.createKlondikeBoard();
                 yield new BoardHandle(view, new BoardActions() {
                     @Override public void deal() { k.onDeal(); }   // stubbed, safe
-                    @Override public void undo() { k.onUndo(); }   // stubbed, safe
+                    @Override public void undo() { k.onUndo(); }
+                    @Override public void themeChanged() { k.onThemeChanged(); }
+                    @Override public boolean newGame(DealId deal) { k.onNewGame(deal); return true; }
+                    @Override public void hint() { k.onHint(); }
+                    @Override public void cancelHint() { k.stopHint(); }
                 });
             }
 
-            case "Pyramid" -> {
-                currentSpider = null;
-                yield PyramidBoardFactory.build(events);
-            }
+            case "Pyramid" -> PyramidBoardFactory.build(events);
 
-            default -> {
-                currentSpider = null;
-                throw new IllegalArgumentException("Unknown solitaire variant: " + variant);
-            }
+            default -> throw new IllegalArgumentException("Unknown solitaire variant: " + variant);
         };
-
-        // Apply to UI
-        BorderPane.setAlignment(handle.view, Pos.CENTER);
-        BorderPane.setMargin(handle.view, new Insets(0));
-        root.setCenter(handle.view);
-
-        board   = handle.view;
-        actions = handle.actions;
-
-        // Force theme to apply to CENTER AREA, not inside ScrollPane content
-        if (handle.view instanceof ScrollPane sp) {
-            if (sp.getContent() instanceof javafx.scene.layout.Region r) {
-                ThemeManager.applyBackground(r);
-            }
-        } else if (handle.view instanceof javafx.scene.layout.Region r) {
-            ThemeManager.applyBackground(r);
-        }
-
-
-        // Sync HUD with Spider stats
-        if (currentSpider != null) {
-            lblMoves.setText("Moves: " + currentSpider.getMoveCount());
-            lblScore.setText("Score: " + currentSpider.getScore());
-        }
-
-        return handle;
     }
 
     private BoardActions noopActions() {
@@ -432,71 +586,56 @@ public class SolitairePrototype extends Application {
 }
 
 // ---------- Pyramid (playable with Deal + Undo) ----------
+// Rules and state live in PyramidGame; this class only draws it
 class PyramidBoardFactory {
 
-    enum Suit { CLUBS, DIAMONDS, HEARTS, SPADES }
-
-    static final class CardModel {
-        final int rank;          // 1..13 (Ace=1, King=13)
-        final Suit suit;
-        boolean removed = false; // when taken from pyramid
-        CardModel(int r, Suit s) { rank = r; suit = s; }
-        boolean isKing() { return rank == 13; }
-        int value() { return rank; }
-    }
-
     static final class CardView extends StackPane {
-        final CardModel model;
+        final int slot;
         boolean selected = false;
+        private final Label face = new Label();
 
-        CardView(CardModel m) {
-            this.model = m;
+        CardView(int slot, int cardId) {
+            this.slot = slot;
             setMinSize(64, 86);
             setMaxSize(64, 86);
             ThemeManager.styleCardFace(this); // Apply theme card styling
+            getStyleClass().add("pyramid-card");
 
-            Label face = new Label(faceText(m));
             face.setFont(Font.font(16));
+            setCard(cardId);
 
+            getChildren().add(face);
+        }
+
+        // Shows another card in this slot (new deal, same node)
+        void setCard(int cardId) {
+            face.setText(faceText(cardId));
             boolean isRed = face.getText().contains("♥") || face.getText().contains("♦");
             ThemeManager.styleCardText(face, isRed);
-
-
-            getChildren().add(face);
         }
 
-        static String faceText(CardModel c) {
-            String r = switch (c.rank) { case 1 -> "A"; case 11 -> "J"; case 12 -> "Q"; case 13 -> "K"; default -> String.valueOf(c.rank); };
-            String s = switch (c.suit) { case CLUBS -> "♣"; case DIAMONDS -> "♦"; case HEARTS -> "♥"; case SPADES -> "♠"; };
+        static String faceText(int cardId) {
+            int rank = PyramidGame.rankOf(cardId);
+            String r = switch (rank) { case 1 -> "A"; case 11 -> "J"; case 12 -> "Q"; case 13 -> "K"; default -> String.valueOf(rank); };
+            String s = switch (PyramidGame.suitOf(cardId)) { case 0 -> "♣"; case 1 -> "♦"; case 2 -> "♥"; default -> "♠"; };
             return r + s;
         }
 
        void setSelected(boolean on) {
             selected = on;
 
+            // Selected look is the .pyramid-card.selected rule in base.css
             if (on) {
-                setStyle("""
-            -fx-background-color: #e8f0fe;
-            -fx-border-color: #3b6df6;
-            -fx-background-radius: 10;
-            -fx-border-radius: 10;
-            -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.3), 8, 0.3, 0, 3);
-        """);
+                if (!getStyleClass().contains("selected")) getStyleClass().add("selected");
             } else {
-                setStyle("""
-            -fx-background-color: linear-gradient(#ffffff, #f3f3f3);
-            -fx-border-color: #888;
-            -fx-background-radius: 10;
-            -fx-border-radius: 10;
-            -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.25), 8, 0.3, 0, 3);
-        """);
+                getStyleClass().remove("selected");
             }
         }
     }
 
+    // Building touches nothing on screen (boards are built ahead in the
+    // background); the HUD is reset when a deal is started, in newGame
     public static BoardHandle build(GameEvents events) {
-        events.onReset();
-
         Pane board = new Pane();
         board.setPrefSize(1000, 520);
 
@@ -505,33 +644,22 @@ class PyramidBoardFactory {
         ThemeManager.applyBackground(root);
 
         // Deck and deal
-        List<CardModel> deck = freshDeck();
-        Collections.shuffle(deck, new Random());
-
-        CardView[][] py = new CardView[7][];
-        int di = 0;
-        for (int r = 0; r < 7; r++) {
-            py[r] = new CardView[r + 1];
-            for (int c = 0; c <= r; c++) {
-                py[r][c] = new CardView(deck.get(di++));
-            }
-        }
-        Deque<CardModel> stock = new ArrayDeque<>();
-        while (di < deck.size()) stock.push(deck.get(di++));
+        PyramidGame game = new PyramidGame();
+        game.newGame();
 
-        Deque<CardModel> waste = new ArrayDeque<>();
+        CardView[] py = new CardView[PyramidGame.SLOTS];
+        for (int s = 0; s < PyramidGame.SLOTS; s++) py[s] = new CardView(s, game.slotCard(s));
 
         // Layout
         double centerX = 500, topY = 40, dx = 78, dy = 28;
-        for (int r = 0; r < 7; r++) {
+        for (int s = 0; s < PyramidGame.SLOTS; s++) {
+            int r = PyramidGame.ROW[s];
             double rowWidth = (r + 1) * dx;
             double startX = centerX - rowWidth / 2.0;
-            for (int c = 0; c <= r; c++) {
-                CardView cv = py[r][c];
-                cv.setLayoutX(startX + c * dx);
-                cv.setLayoutY(topY + r * dy);
-                board.getChildren().add(cv); // changed to board to get themes
-            }
+            CardView cv = py[s];
+            cv.setLayoutX(startX + PyramidGame.COL[s] * dx);
+            cv.setLayoutY(topY + r * dy);
+            board.getChildren().add(cv); // changed to board to get themes
         }
 
         StackPane stockSlot = Basics.card(""); stockSlot.setLayoutX(140); stockSlot.setLayoutY(380);
@@ -539,150 +667,70 @@ class PyramidBoardFactory {
         Label lblStock = new Label("Stock"); lblStock.setLayoutX(146); lblStock.setLayoutY(470);
         Label lblWaste = new Label("Waste"); lblWaste.setLayoutX(240); lblWaste.setLayoutY(470);
 
-        Runnable refreshWaste = () -> {
-            wasteSlot.getChildren().clear();
-            if (!waste.isEmpty()) {
-                wasteSlot.getChildren().add(new Label(CardView.faceText(waste.peek())));
+        // Redraw from the engine: removed cards are hidden, waste shows its top
+        Runnable refresh = () -> {
+            for (CardView cv : py) {
+                boolean gone = game.isRemoved(cv.slot);
+                cv.setDisable(gone);
+                cv.setOpacity(gone ? 0.0 : 1.0);
             }
+            wasteSlot.getChildren().clear();
+            int top = game.wasteTop();
+            if (top >= 0) wasteSlot.getChildren().add(new Label(CardView.faceText(top)));
         };
 
         final CardView[] sel = new CardView[1];
-        final int[] removedCount = {0};
 
-        Runnable checkWin = () -> {
-            if (removedCount[0] >= 28) events.onWin();
-        };
-
-        java.util.function.BiPredicate<Integer,Integer> isUncovered = (row,col) -> {
-            if (row == 6) return true;
-            CardView dl = py[row+1][col];
-            CardView dr = py[row+1][col+1];
-            return (dl.model.removed) && (dr.model.removed);
-        };
-
-        // ---- UNDO STACK ----
-        Deque<Runnable> undo = new ArrayDeque<>();
-
-        // helpers to hide/show pyramid cards
-        java.util.function.Consumer<CardView> hide = (cv) -> {
-            cv.setDisable(true);
-            cv.setOpacity(0.0);
-            cv.model.removed = true;
-        };
-        java.util.function.Consumer<CardView> show = (cv) -> {
-            cv.setDisable(false);
-            cv.setOpacity(1.0);
-            cv.model.removed = false;
+        // Common tail of every successful move
+        java.util.function.IntConsumer played = (points) -> {
+            refresh.run();
+            events.onMove();
+            if (points != 0) events.onScore(points);
+            if (game.isWin()) events.onWin();
         };
 
         // ---- Deal/Recycle implementation (also used by toolbar) ----
         Runnable doFlip = () -> {
-            if (!stock.isEmpty()) {
-                CardModel cm = stock.pop();
-                waste.push(cm);
-                refreshWaste.run();
-                events.onMove();
-                undo.push(() -> {
-                    CardModel x = waste.pop();
-                    stock.push(x);
-                    refreshWaste.run();
-                });
-            } else {
-                if (waste.isEmpty()) return;
-                List<CardModel> moved = new ArrayList<>();
-                while (!waste.isEmpty()) {
-                    CardModel cm = waste.pop();
-                    stock.push(cm);
-                    moved.add(cm);
-                }
-                refreshWaste.run();
-                events.onMove();
-                undo.push(() -> {
-                    for (int i = moved.size() - 1; i >= 0; i--) {
-                        CardModel cm = moved.get(i);
-                        CardModel chk = stock.pop(); // sanity
-                        waste.push(chk);
-                    }
-                    refreshWaste.run();
-                });
-            }
+            if (game.drawOrRecycle()) played.accept(0);
         };
         stockSlot.setOnMouseClicked(e -> doFlip.run());
 
         // Pyramid clicks
-        for (int r = 0; r < 7; r++) {
-            for (int c = 0; c <= r; c++) {
-                final int rr = r, cc = c;
-                CardView cv = py[r][c];
-                cv.setOnMouseClicked(e -> {
-                    if (cv.model.removed) return;
-                    if (!isUncovered.test(rr, cc)) return;
-
-                    if (cv.model.isKing()) {
-                        hide.accept(cv);
-                        removedCount[0]++;
-                        events.onMove();
-                        events.onScore(100);
-                        undo.push(() -> { show.accept(cv); removedCount[0]--; });
-                        checkWin.run();
-                        return;
-                    }
+        for (CardView cv : py) {
+            cv.setOnMouseClicked(e -> {
+                if (!game.isExposed(cv.slot)) return;
 
-                    if (sel[0] == null) {
-                        sel[0] = cv;
-                        cv.setSelected(true);
-                    } else if (sel[0] == cv) {
-                        cv.setSelected(false);
-                        sel[0] = null;
-                    } else {
-                        int sum = sel[0].model.value() + cv.model.value();
-                        if (sum == 13) {
-                            CardView a = sel[0], b = cv;
-                            hide.accept(a); hide.accept(b);
-                            removedCount[0] += 2;
-                            events.onMove();
-                            events.onScore(150);
-                            undo.push(() -> { show.accept(a); show.accept(b); removedCount[0] -= 2; });
-                            checkWin.run();
-                        } else {
-                            sel[0].setSelected(false);
-                        }
-                        sel[0] = null;
-                    }
-                });
-            }
+                if (PyramidGame.rankOf(game.slotCard(cv.slot)) == 13) {
+                    if (game.removeKing(cv.slot)) played.accept(PyramidGame.SCORE_KING);
+                    return;
+                }
+
+                if (sel[0] == null) {
+                    sel[0] = cv;
+                    cv.setSelected(true);
+                } else if (sel[0] == cv) {
+                    cv.setSelected(false);
+                    sel[0] = null;
+                } else {
+                    CardView a = sel[0];
+                    a.setSelected(false);
+                    sel[0] = null;
+                    if (game.removePair(a.slot, cv.slot)) played.accept(PyramidGame.SCORE_PAIR);
+                }
+            });
         }
 
         // Waste pairing
         wasteSlot.setOnMouseClicked(e -> {
-            if (waste.isEmpty()) return;
-            CardModel top = waste.peek();
-            if (sel[0] == null && top.rank == 13) {
-                waste.pop();
-                refreshWaste.run();
-                events.onMove();
-                events.onScore(80);
-                undo.push(() -> { waste.push(top); refreshWaste.run(); });
+            if (game.wasteTop() < 0) return;
+            if (sel[0] == null) {
+                if (game.removeWasteKing()) played.accept(PyramidGame.SCORE_WASTE_KING);
                 return;
             }
-            if (sel[0] != null) {
-                CardView a = sel[0]; sel[0] = null;
-                int[] pos = findRow(py, a);
-                if (pos[0] == -1) { a.setSelected(false); return; }
-                int sum = a.model.value() + top.value();
-                if (sum == 13 && isUncovered.test(pos[0], pos[1])) {
-                    waste.pop();
-                    hide.accept(a);
-                    removedCount[0] += 1;
-                    events.onMove();
-                    events.onScore(120);
-                    undo.push(() -> { show.accept(a); waste.push(top); refreshWaste.run(); removedCount[0] -= 1; });
-                    refreshWaste.run();
-                    checkWin.run();
-                } else {
-                    a.setSelected(false);
-                }
-            }
+            CardView a = sel[0];
+            a.setSelected(false);
+            sel[0] = null;
+            if (game.removeWithWaste(a.slot)) played.accept(PyramidGame.SCORE_WASTE_PAIR);
         });
 
         // Add nodes
@@ -693,28 +741,20 @@ class PyramidBoardFactory {
         BoardActions actions = new BoardActions() {
             @Override public void deal() { doFlip.run(); }
             @Override public void undo() {
-                if (!undo.isEmpty()) undo.pop().run();
+                if (game.undo()) refresh.run();
+            }
+            // New deal into the same card nodes
+            @Override public boolean newGame(DealId deal) {
+                if (sel[0] != null) sel[0].setSelected(false);
+                sel[0] = null;
+                game.newGame(deal);
+                for (CardView cv : py) cv.setCard(game.slotCard(cv.slot));
+                refresh.run();
+                events.onReset();
+                return true;
             }
         };
 
         return new BoardHandle(root, actions);
     }
-
-    private static int[] findRow(CardView[][] py, CardView target) {
-        for (int r = 0; r < py.length; r++) {
-            for (int c = 0; c < py[r].length; c++) {
-                if (py[r][c] == target) return new int[]{r,c};
-            }
-        }
-        return new int[]{-1,-1};
-    }
-
-    private static List<CardModel> freshDeck() {
-        List<CardModel> d = new ArrayList<>(52);
-        for (Suit s : Suit.values()) for (int r = 1; r <= 13; r++) d.add(new CardModel(r, s));
-        return d;
-    }
 }
-
-
-
@@ -0,0 +1,90 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: BloomFilter.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Bloom filter over 64-bit keys (deal numbers)
+// mightContain() can say yes for a key never added (about
+// 1% at the sized capacity) but never no for one that was,
+// in a fraction of the memory a set would need
+// Probes come from two SplitMix64 mixes of the key
+// (Kirsch-Mitzenmacher double hashing)
+//
+//*********************************************
+
+package solitaire.core;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+public final class BloomFilter {
+    private final long[] bits;
+    private final long bitCount;
+    private final int probes;
+    private int added;
+
+    /**
+     * Sized for the given number of keys at about a 1% false-positive rate:
+     * 9.6 bits and 7 probes per key
+     */
+    public BloomFilter(int expectedKeys) {
+        this(Math.max(64, (long) Math.ceil(expectedKeys * 9.6)), 7);
+    }
+
+    private BloomFilter(long bitCount, int probes) {
+        if (bitCount > (1L << 36)) throw new IllegalArgumentException("Bloom filter too large");
+        this.bits = new long[(int) ((bitCount + 63) >>> 6)];
+        this.bitCount = 64L * bits.length;
+        this.probes = probes;
+    }
+
+    public void add(long key) {
+        long h1 = SplitMix64.mix64(key);
+        long h2 = SplitMix64.mix64(h1) | 1;
+        for (int i = 0; i < probes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        added++;
+    }
+
+    public boolean mightContain(long key) {
+        long h1 = SplitMix64.mix64(key);
+        long h2 = SplitMix64.mix64(h1) | 1;
+        for (int i = 0; i < probes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits[(int) (bit >>> 6)] & 1L << bit) == 0) return false;
+        }
+        return true;
+    }
+
+    // Keys added so far (duplicates counted)
+    public int size() { return added; }
+    public long memoryBytes() { return 8L * bits.length; }
+
+    // ----- persistence -----
+    //   byte probes, int keys added, int words, long[words] bits
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeByte(probes);
+        out.writeInt(added);
+        out.writeInt(bits.length);
+        for (long w : bits) out.writeLong(w);
+    }
+
+    public static BloomFilter readFrom(DataInputStream in) throws IOException {
+        int probes = in.readByte();
+        int added = in.readInt();
+        int words = in.readInt();
+        if (probes < 1 || words < 1) throw new IOException("Corrupt Bloom filter");
+        BloomFilter f = new BloomFilter(64L * words, probes);
+        for (int i = 0; i < words; i++) f.bits[i] = in.readLong();
+        f.added = added;
+        return f;
+    }
+}
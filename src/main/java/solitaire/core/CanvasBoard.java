@@ -0,0 +1,217 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: CanvasBoard.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Draws a whole board on one Canvas instead of one node
+// per card, so the scene graph stays the same size however
+// many cards are dealt
+// refresh() compares each pile with what was last painted
+// and repaints only the piles that changed
+// Clicks are mapped back to (pile, card index)
+//
+//*********************************************
+
+package solitaire.core;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+
+public class CanvasBoard extends Canvas {
+
+    // What the board shows; cards are Zobrist.code() values
+    public interface Source {
+        int pileCount();
+        int size(int pile);
+        int card(int pile, int index);
+    }
+
+    // cardIndex is -1 for a click on an empty pile
+    @FunctionalInterface
+    public interface PileClick {
+        void clicked(int pile, int cardIndex);
+    }
+
+    // Vertical step between fanned cards
+    public static final double FAN_DOWN = 10;
+    public static final double FAN_UP = 24;
+
+    // Room left around a card for its baked-in shadow
+    private static final double PAD = 8;
+
+    private final Source source;
+    private final CardAtlas atlas;
+    private final double[] px;
+    private final double[] py;
+    private final boolean[] fanned;
+    private int added = 0;
+
+    // Cards as last painted, per pile
+    private final int[][] shown;
+    private final int[] shownSize;
+    private Theme paintedTheme;
+
+    private int selPile = -1;
+    private int selIndex = -1;
+    private PileClick onPileClicked;
+
+    public CanvasBoard(Source source, CardAtlas atlas, double width, double height) {
+        super(width, height);
+        this.source = source;
+        this.atlas = atlas;
+
+        int n = source.pileCount();
+        px = new double[n];
+        py = new double[n];
+        fanned = new boolean[n];
+        shown = new int[n][];
+        shownSize = new int[n];
+        for (int p = 0; p < n; p++) shown[p] = new int[16];
+
+        setOnMouseClicked(e -> {
+            if (onPileClicked == null) return;
+            long hit = hitTest(e.getX(), e.getY());
+            if (hit >= 0) onPileClicked.clicked((int) (hit >>> 32), (int) hit);
+        });
+    }
+
+    /**
+     * Places the next pile (in the source's pile order).
+     * @param fanned true to spread the cards downward, false to show only the top card
+     */
+    public CanvasBoard addPile(double x, double y, boolean fanned) {
+        px[added] = x;
+        py[added] = y;
+        this.fanned[added] = fanned;
+        added++;
+        return this;
+    }
+
+    public void setOnPileClicked(PileClick onPileClicked) {
+        this.onPileClicked = onPileClicked;
+    }
+
+    // Gold outline on one card; pile -1 clears it
+    public void select(int pile, int cardIndex) {
+        int old = selPile;
+        selPile = pile;
+        selIndex = cardIndex;
+        if (old >= 0) paintPile(old);
+        if (pile >= 0 && pile != old) paintPile(pile);
+    }
+
+    // Repaints the piles that no longer match the model
+    public void refresh() {
+        if (paintedTheme != ThemeManager.getTheme()) {
+            redraw();
+            return;
+        }
+        for (int p = 0; p < added; p++) {
+            if (sync(p)) paintPile(p);
+        }
+    }
+
+    // Repaints every pile
+    public void redraw() {
+        paintedTheme = ThemeManager.getTheme();
+        getGraphicsContext2D().clearRect(0, 0, getWidth(), getHeight());
+        for (int p = 0; p < added; p++) {
+            sync(p);
+            paintPile(p);
+        }
+    }
+
+    /** Pile and card under (x, y) as pile << 32 | index, or -1 if none */
+    public long hitTest(double x, double y) {
+        double w = atlas.getWidth(), h = atlas.getHeight();
+        for (int p = 0; p < added; p++) {
+            if (x < px[p] || x >= px[p] + w || y < py[p]) continue;
+            int n = shownSize[p];
+            if (n == 0 || !fanned[p]) {
+                if (y < py[p] + h) return (long) p << 32 | ((n - 1) & 0xFFFFFFFFL);
+                continue;
+            }
+            // Topmost card wins, so look from the top of the pile down
+            for (int i = n - 1; i >= 0; i--) {
+                double top = cardY(p, i);
+                if (y >= top && y < top + h) return (long) p << 32 | i;
+            }
+        }
+        return -1;
+    }
+
+    // Copies the pile from the source; true if it differs from what was painted
+    private boolean sync(int p) {
+        int n = source.size(p);
+        if (n > shown[p].length) shown[p] = Arrays.copyOf(shown[p], Math.max(n, shown[p].length * 2));
+
+        boolean changed = n != shownSize[p];
+        int[] cards = shown[p];
+        for (int i = 0; i < n; i++) {
+            int c = source.card(p, i);
+            if (cards[i] != c) {
+                cards[i] = c;
+                changed = true;
+            }
+        }
+        shownSize[p] = n;
+        return changed;
+    }
+
+    private double cardY(int p, int index) {
+        double y = py[p];
+        if (!fanned[p]) return y;
+        int[] cards = shown[p];
+        for (int i = 0; i < index; i++) y += faceUp(cards[i]) ? FAN_UP : FAN_DOWN;
+        return y;
+    }
+
+    private void paintPile(int p) {
+        GraphicsContext gc = getGraphicsContext2D();
+        double w = atlas.getWidth(), h = atlas.getHeight();
+        int n = shownSize[p];
+        int[] cards = shown[p];
+
+        // Grow downward if a long column no longer fits
+        double bottom = (n > 0 ? cardY(p, n - 1) : py[p]) + h + PAD;
+        if (bottom > getHeight()) {
+            setHeight(bottom);
+            redraw();
+            return;
+        }
+
+        double clearBottom = fanned[p] ? getHeight() : py[p] + h + PAD;
+        gc.clearRect(px[p] - PAD, py[p] - PAD, w + 2 * PAD, clearBottom - py[p] + PAD);
+
+        if (n == 0) {
+            gc.setStroke(Color.rgb(255, 255, 255, 0.25));
+            gc.setLineWidth(1);
+            gc.strokeRoundRect(px[p] + 0.5, py[p] + 0.5, w - 1, h - 1, 16, 16);
+            return;
+        }
+
+        int first = fanned[p] ? 0 : n - 1;
+        double y = cardY(p, first);
+        for (int i = first; i < n; i++) {
+            int c = cards[i];
+            atlas.draw(gc, c & 0x0F, (c >>> 4) & 0x03, faceUp(c), px[p], y);
+            if (p == selPile && i == selIndex) {
+                gc.setStroke(Color.GOLD);
+                gc.setLineWidth(2);
+                gc.strokeRoundRect(px[p] + 1, y + 1, w - 2, h - 2, 16, 16);
+            }
+            y += faceUp(c) ? FAN_UP : FAN_DOWN;
+        }
+    }
+
+    private static boolean faceUp(int code) {
+        return (code & 0x80) != 0;
+    }
+}
@@ -0,0 +1,127 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: CardAtlas.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Pre-rendered card images, one per (rank, suit, face-up)
+// for the current theme
+// Each image is a snapshot of the styled card node, taken
+// once at the screen's output scale, so the board shows
+// plain ImageViews instead of Labels, CSS and drop shadows
+// Images are dropped and re-made lazily after a theme change
+//
+//*********************************************
+
+package solitaire.core;
+
+import javafx.geometry.Bounds;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Scale;
+import javafx.stage.Screen;
+
+import java.util.Arrays;
+
+public class CardAtlas {
+
+    // Builds the full styled node for one card; suit is the enum ordinal
+    @FunctionalInterface
+    public interface CardFace {
+        StackPane build(int rank, int suit, boolean faceUp);
+    }
+
+    // 52 faces, then one shared back
+    private static final int BACK = 52;
+
+    private final CardFace face;
+    private final double width;
+    private final double height;
+
+    private final WritableImage[] images = new WritableImage[BACK + 1];
+    private final double[] offsetX = new double[BACK + 1];
+    private final double[] offsetY = new double[BACK + 1];
+    private Theme builtFor;
+    private double builtScale;
+
+    public CardAtlas(CardFace face, double width, double height) {
+        this.face = face;
+        this.width = width;
+        this.height = height;
+    }
+
+    // Card node of the usual size showing the cached image
+    // The image is unmanaged so the shadow around it takes no layout space
+    public StackPane node(int rank, int suit, boolean faceUp) {
+        int k = faceUp ? suit * 13 + rank - 1 : BACK;
+        WritableImage img = image(k, rank, suit, faceUp);
+
+        ImageView view = new ImageView(img);
+        view.setManaged(false);
+        view.setFitWidth(img.getWidth() / builtScale);
+        view.setFitHeight(img.getHeight() / builtScale);
+        view.setLayoutX(offsetX[k]);
+        view.setLayoutY(offsetY[k]);
+
+        StackPane card = new StackPane(view);
+        card.setMinSize(width, height);
+        card.setMaxSize(width, height);
+        return card;
+    }
+
+    // Draws the cached image with the card's top-left corner at (x, y)
+    public void draw(GraphicsContext gc, int rank, int suit, boolean faceUp, double x, double y) {
+        int k = faceUp ? suit * 13 + rank - 1 : BACK;
+        WritableImage img = image(k, rank, suit, faceUp);
+        gc.drawImage(img, x + offsetX[k], y + offsetY[k],
+                img.getWidth() / builtScale, img.getHeight() / builtScale);
+    }
+
+    public double getWidth() { return width; }
+    public double getHeight() { return height; }
+
+    // Forgets every image; the next lookup renders again
+    public void clear() {
+        Arrays.fill(images, null);
+        builtFor = null;
+    }
+
+    private WritableImage image(int k, int rank, int suit, boolean faceUp) {
+        double scale = Screen.getPrimary().getOutputScaleX();
+        if (builtFor != ThemeManager.getTheme() || builtScale != scale) {
+            clear();
+            builtFor = ThemeManager.getTheme();
+            builtScale = scale;
+        }
+
+        if (images[k] == null) {
+            StackPane src = face.build(rank, suit, faceUp);
+            // A scene with the theme stylesheets, so the card's style classes apply
+            Scene scene = new Scene(new Group(src));
+            scene.getStylesheets().setAll(ThemeManager.stylesheets());
+            src.applyCss();
+            src.resize(width, height);
+            src.layout();
+
+            // Shadow included, so bounds can start left of / above the card
+            Bounds b = src.getBoundsInParent();
+            offsetX[k] = b.getMinX();
+            offsetY[k] = b.getMinY();
+
+            SnapshotParameters sp = new SnapshotParameters();
+            sp.setFill(Color.TRANSPARENT);
+            sp.setTransform(new Scale(scale, scale));
+            images[k] = src.snapshot(sp, null);
+        }
+        return images[k];
+    }
+}
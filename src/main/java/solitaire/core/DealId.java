@@ -0,0 +1,86 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: DealId.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Names a deal by number, e.g. #1234
+// Deal n's shuffle seed is value n of one fixed SplitMix64
+// stream, worked out directly in O(1), so any deal can be
+// replayed or shared by its number alone and every machine
+// gets the same layout for the same number
+// Batch jobs can shard a number range however they like;
+// no deal depends on the ones before it
+//
+//*********************************************
+
+package solitaire.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class DealId implements Comparable<DealId> {
+    // Start of the deal stream; changing it renumbers every deal
+    private static final long STREAM_SEED = 0x50524F544F322DL;   // "PROTO2-"
+
+    private final long number;
+
+    private DealId(long number) {
+        this.number = number;
+    }
+
+    public static DealId of(long number) {
+        if (number < 0) throw new IllegalArgumentException("Deal number must be >= 0: " + number);
+        return new DealId(number);
+    }
+
+    // Any deal, for a "new game" with no number asked for
+    public static DealId random() {
+        return new DealId(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE));
+    }
+
+    // Accepts "1234" or "#1234"
+    public static DealId parse(String text) {
+        String s = text.trim();
+        if (s.startsWith("#")) s = s.substring(1);
+        return of(Long.parseLong(s));
+    }
+
+    public long getNumber() { return number; }
+
+    // Shuffle seed for this deal
+    public long seed() {
+        return SplitMix64.at(STREAM_SEED, number);
+    }
+
+    // The deal n places further on
+    public DealId plus(long n) {
+        return of(number + n);
+    }
+
+    public DealId next() {
+        return plus(1);
+    }
+
+    @Override
+    public int compareTo(DealId other) {
+        return Long.compare(number, other.number);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof DealId d && d.number == number;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(number);
+    }
+
+    @Override
+    public String toString() {
+        return "#" + number;
+    }
+}
@@ -0,0 +1,96 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: DealPool.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Background supply of deals for one variant
+// Daemon threads keep a bounded queue topped up with
+// candidate deals that pass an optional filter (e.g.
+// "the solver wins it"), so New Game never waits for one
+// Dealing from a DealId takes microseconds; the expensive
+// part is the filter, and that runs off the FX thread
+//
+//*********************************************
+
+package solitaire.core;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class DealPool implements AutoCloseable {
+    private final BlockingQueue<DealId> ready;
+    private final Supplier<DealId> candidates;
+    private final Supplier<DealId> fallback;
+    private final Thread[] fillers;
+
+    // Every deal is accepted
+    public DealPool(String name, int capacity) {
+        this(name, capacity, d -> true);
+    }
+
+    /**
+     * @param capacity deals kept ready
+     * @param accept run on the pool thread only; need not be thread-safe
+     */
+    public DealPool(String name, int capacity, Predicate<DealId> accept) {
+        this(name, capacity, 1, DealId::random, () -> accept, DealId::random);
+    }
+
+    /**
+     * @param threads filler threads, e.g. one per solver
+     * @param candidates deals to try; shared by the threads, must be thread-safe
+     * @param filters creates one filter per thread (filters need not be thread-safe)
+     * @param fallback what next() hands out when nothing is ready;
+     *                 may return null if there is nothing it can vouch for
+     */
+    public DealPool(String name, int capacity, int threads, Supplier<DealId> candidates,
+                    Supplier<? extends Predicate<DealId>> filters, Supplier<DealId> fallback) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity >= 1");
+        if (threads < 1) throw new IllegalArgumentException("threads >= 1");
+        this.ready = new ArrayBlockingQueue<>(capacity);
+        this.candidates = candidates;
+        this.fallback = fallback;
+        this.fillers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            Predicate<DealId> accept = filters.get();
+            Thread t = new Thread(() -> fill(accept), "deal-pool-" + name + "-" + i);
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            fillers[i] = t;
+        }
+        for (Thread t : fillers) t.start();
+    }
+
+    // A ready deal; if the pool has run dry, the fallback rather than wait
+    // (null only if the fallback has none either)
+    public DealId next() {
+        DealId d = ready.poll();
+        return d != null ? d : fallback.get();
+    }
+
+    public int readyCount() {
+        return ready.size();
+    }
+
+    @Override
+    public void close() {
+        for (Thread t : fillers) t.interrupt();
+    }
+
+    private void fill(Predicate<DealId> accept) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                DealId d = candidates.get();
+                if (accept.test(d)) ready.put(d);   // blocks while the queue is full
+            }
+        } catch (InterruptedException e) {
+            // closed
+        }
+    }
+}
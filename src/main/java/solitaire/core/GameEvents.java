@@ -5,4 +5,6 @@ public interface GameEvents {
     default void onScore(int delta) {}
     default void onWin() {}
     default void onReset() {}
+    // Suggested move for the player; null when it no longer applies
+    default void onHint(String text) {}
 }
@@ -0,0 +1,178 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: HintService.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Anytime hints from a background thread
+// A request runs a search on a snapshot of the position;
+// the best move so far is handed over once the budget
+// (e.g. 50 ms) is up, and every better one after that,
+// until the search finishes or the idle limit is reached
+// A request can be made with a short idle limit (e.g. a
+// guess while a move animates) and extended if the hint
+// is asked for; the thread runs at minimum priority
+// Any new request or cancel() makes the running search
+// stop at its next check and drops its pending callbacks,
+// so a move by the player never waits on a hint
+//
+//*********************************************
+
+package solitaire.core;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+public class HintService implements AutoCloseable {
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+    public static final long DEFAULT_IDLE_MILLIS = 5_000;
+
+    // Receives each better move the search finds
+    @FunctionalInterface
+    public interface Sink {
+        void found(int move, String text);
+    }
+
+    /**
+     * Search from a snapshot taken before the request; runs on the hint
+     * thread and must return soon after stop says true (it is cheap to
+     * call and doubles as the hand-over point once the budget is up)
+     */
+    @FunctionalInterface
+    public interface Search {
+        void run(Sink sink, BooleanSupplier stop);
+    }
+
+    // Gets hints on the callback executor; move is the variant's own encoding
+    @FunctionalInterface
+    public interface Listener {
+        void hint(int move, String text);
+    }
+
+    private final Executor callbacks;
+    private final ExecutorService worker;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Task current;
+
+    /** @param callbacks where listeners run, e.g. Platform::runLater */
+    public HintService(String name, Executor callbacks) {
+        this.callbacks = callbacks;
+        this.worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "hints-" + name);
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+    }
+
+    public void request(Search search, Listener listener) {
+        request(search, DEFAULT_BUDGET_MILLIS, DEFAULT_IDLE_MILLIS, listener);
+    }
+
+    /**
+     * Starts a search, replacing any running one
+     * @param budgetMillis first hint no later than this (if one was found)
+     * @param idleMillis keep improving for this long in total
+     */
+    public void request(Search search, long budgetMillis, long idleMillis, Listener listener) {
+        long gen = generation.incrementAndGet();
+        long start = System.nanoTime();
+        Task task = new Task(gen, start, start + budgetMillis * 1_000_000L, start + idleMillis * 1_000_000L, listener);
+        current = task;
+        worker.execute(() -> {
+            if (generation.get() != gen) return;   // superseded while queued
+            try {
+                search.run(task::found, task::stop);
+            } finally {
+                task.flush();
+            }
+        });
+    }
+
+    /**
+     * Lets the latest request keep improving until idleMillis after it
+     * was made, e.g. once the player asks for the hint it guessed at
+     * @return false if it was cancelled or already stopped at its old
+     *         limit; request it again to search further
+     */
+    public boolean extend(long idleMillis) {
+        Task task = current;
+        return task != null && task.gen == generation.get() && task.extend(idleMillis);
+    }
+
+    // Stops the running search; hints already posted for it are dropped
+    public void cancel() {
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public void close() {
+        cancel();
+        worker.shutdownNow();
+    }
+
+    // One request, touched only by the hint thread
+    private final class Task {
+        private final long gen;
+        private final long start;
+        private final long shareAt;
+        private volatile long endAt;   // moved later by extend (caller thread)
+        private boolean timedOut = false;
+        private final Listener listener;
+
+        private int move;
+        private String text;
+        private boolean pending = false;
+
+        Task(long gen, long start, long shareAt, long endAt, Listener listener) {
+            this.gen = gen;
+            this.start = start;
+            this.shareAt = shareAt;
+            this.endAt = endAt;
+            this.listener = listener;
+        }
+
+        void found(int m, String t) {
+            move = m;
+            text = t;
+            pending = true;
+            if (System.nanoTime() >= shareAt) flush();
+        }
+
+        boolean stop() {
+            if (generation.get() != gen) return true;
+            long now = System.nanoTime();
+            if (pending && now >= shareAt) flush();
+            if (now < endAt) return false;
+            synchronized (this) {
+                // Checked again so an extend that just got in still counts
+                if (now < endAt) return false;
+                timedOut = true;
+                return true;
+            }
+        }
+
+        synchronized boolean extend(long idleMillis) {
+            if (timedOut) return false;
+            endAt = Math.max(endAt, start + idleMillis * 1_000_000L);
+            return true;
+        }
+
+        // Posts the latest move unless the request has been replaced
+        void flush() {
+            if (!pending || generation.get() != gen) return;
+            pending = false;
+            int m = move;
+            String t = text;
+            callbacks.execute(() -> {
+                if (generation.get() == gen) listener.hint(m, t);
+            });
+        }
+    }
+}
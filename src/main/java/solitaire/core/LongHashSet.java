@@ -0,0 +1,91 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: LongHashSet.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Open-addressing set of 64-bit position keys
+// Used by the solvers for duplicate detection
+// Fixed capacity so memory use is known up front
+// (grown() copies into a bigger table when a caller must not overflow)
+//
+//*********************************************
+
+package solitaire.core;
+
+import java.util.Arrays;
+
+public final class LongHashSet {
+    // 0 marks an empty slot, so key 0 is remapped
+    private static final long ZERO_KEY = 0x9E3779B97F4A7C15L;
+
+    private final long[] slots;
+    private final int mask;
+    private final int shift;
+    private final int maxSize;
+    private int size;
+
+    /** @param capacityBits table has 2^bits slots, filled to at most 75% */
+    public LongHashSet(int capacityBits) {
+        if (capacityBits < 4 || capacityBits > 30) throw new IllegalArgumentException("capacityBits 4..30");
+        slots = new long[1 << capacityBits];
+        mask = slots.length - 1;
+        shift = 64 - capacityBits;
+        maxSize = slots.length - (slots.length >> 2);
+    }
+
+    /** @return true if the key was added, false if it was already present */
+    public boolean add(long key) {
+        if (key == 0) key = ZERO_KEY;
+        int i = index(key);
+        while (true) {
+            long k = slots[i];
+            if (k == 0) {
+                if (size >= maxSize) throw new IllegalStateException("LongHashSet full");
+                slots[i] = key;
+                size++;
+                return true;
+            }
+            if (k == key) return false;
+            i = (i + 1) & mask;
+        }
+    }
+
+    public boolean contains(long key) {
+        if (key == 0) key = ZERO_KEY;
+        int i = index(key);
+        while (true) {
+            long k = slots[i];
+            if (k == 0) return false;
+            if (k == key) return true;
+            i = (i + 1) & mask;
+        }
+    }
+
+    // Fibonacci hashing, so structured keys (bit masks) still spread out
+    private int index(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    /** The same keys in a table with twice the slots, for sets that must not fill up */
+    public LongHashSet grown() {
+        LongHashSet g = new LongHashSet(64 - shift + 1);
+        for (long k : slots) {
+            if (k != 0) g.add(k);
+        }
+        return g;
+    }
+
+    public boolean isFull() { return size >= maxSize; }
+    public int size() { return size; }
+    public long memoryBytes() { return 8L * slots.length; }
+
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(slots, 0L);
+        size = 0;
+    }
+}
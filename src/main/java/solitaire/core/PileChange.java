@@ -0,0 +1,49 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: PileChange.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Change records sent by Pile listeners, packed in one int
+//   bits 0-1 kind (PUSH, POP, FLIP)
+//   PUSH/POP: bits 2-31 card count
+//   FLIP:     bit 2 new face-up state, bits 3-31 card index
+// Each record comes with the pile's version after the change,
+// so a listener can tell if it missed one
+//
+//*********************************************
+
+package solitaire.core;
+
+public final class PileChange {
+    public static final int PUSH = 0;
+    public static final int POP = 1;
+    public static final int FLIP = 2;
+
+    private PileChange() {}
+
+    @FunctionalInterface
+    public interface Listener {
+        void pileChanged(int change, long version);
+    }
+
+    public static int push(int count) { return PUSH | count << 2; }
+    public static int pop(int count) { return POP | count << 2; }
+    public static int flip(int index, boolean faceUp) { return FLIP | (faceUp ? 4 : 0) | index << 3; }
+
+    public static int kind(int change) { return change & 3; }
+    public static int count(int change) { return change >>> 2; }
+    public static int index(int change) { return change >>> 3; }
+    public static boolean faceUp(int change) { return (change & 4) != 0; }
+
+    public static String toString(int change) {
+        return switch (kind(change)) {
+            case PUSH -> "push " + count(change);
+            case POP -> "pop " + count(change);
+            default -> "flip " + index(change) + (faceUp(change) ? " up" : " down");
+        };
+    }
+}
@@ -17,5 +17,6 @@ package solitaire.core;
 public enum PileType {
     TABLEAU,
     FOUNDATION,
-    STOCK
+    STOCK,
+    WASTE
 }
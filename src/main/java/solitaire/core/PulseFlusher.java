@@ -0,0 +1,58 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: PulseFlusher.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Coalesces board redraws to one per frame
+// Controllers call request() after changing the game; the
+// timer runs on the next pulse, takes the engine's dirty-pile
+// bits and hands them to the redraw code once, then stops
+// Any number of requests between two frames cost one redraw
+//
+//*********************************************
+
+package solitaire.core;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+public class PulseFlusher extends AnimationTimer {
+    private final IntSupplier takeDirty;
+    private final IntConsumer redraw;
+    private boolean armed = false;
+
+    /**
+     * @param takeDirty returns and clears the changed-pile bits (e.g. game::takeDirty)
+     * @param redraw redraws the piles whose bits are set
+     */
+    public PulseFlusher(IntSupplier takeDirty, IntConsumer redraw) {
+        this.takeDirty = takeDirty;
+        this.redraw = redraw;
+    }
+
+    // Schedules a flush on the next pulse; cheap to call repeatedly
+    public void request() {
+        if (armed) return;
+        armed = true;
+        start();
+    }
+
+    // Redraws now instead of waiting for the pulse
+    public void flush() {
+        int d = takeDirty.getAsInt();
+        if (d != 0) redraw.accept(d);
+    }
+
+    @Override
+    public void handle(long now) {
+        stop();
+        armed = false;
+        flush();
+    }
+}
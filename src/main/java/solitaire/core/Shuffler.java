@@ -0,0 +1,46 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: Shuffler.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Shuffles a deck of card ids held in a byte[]
+// Same swaps, in the same order, as
+// Collections.shuffle(list, new Random(seed)), so a seed
+// deals exactly the layout it always has
+// One Shuffler (and its Random) is reused for every deal,
+// so dealing allocates nothing
+//
+//*********************************************
+
+package solitaire.core;
+
+import java.util.Random;
+
+public final class Shuffler {
+    private final Random rnd = new Random(0);
+
+    /**
+     * Shuffles deck[0..n) in place.
+     * Matches Collections.shuffle on a random-access list:
+     * for i = n down to 2, swap i - 1 with nextInt(i)
+     */
+    public void shuffle(byte[] deck, int n, long seed) {
+        // setSeed leaves the Random exactly as new Random(seed) would
+        rnd.setSeed(seed);
+        for (int i = n; i > 1; i--) {
+            int j = rnd.nextInt(i);
+            byte t = deck[i - 1];
+            deck[i - 1] = deck[j];
+            deck[j] = t;
+        }
+    }
+
+    // Fills deck[0..n) with 0, 1, ..., n - 1
+    public static void identity(byte[] deck, int n) {
+        for (int i = 0; i < n; i++) deck[i] = (byte) i;
+    }
+}
@@ -0,0 +1,49 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: SplitMix64.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// SplitMix64 random stream (Steele, Lea, Flood 2014)
+// The state just advances by a fixed odd gamma, and each
+// output is a mix of the state, so value n of a stream is
+// computed directly, O(1) (at); DealId numbers deals this way
+// and batch jobs shard deal number ranges, not streams
+// Same algorithm as java.util.SplittableRandom, written out
+// here so the values can never change under us
+//
+//*********************************************
+
+package solitaire.core;
+
+public final class SplitMix64 {
+    // Odd, close to 2^64 / golden ratio
+    public static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    public SplitMix64(long seed) {
+        this.state = seed;
+    }
+
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    // Value number n (0-based) of the stream started at seed,
+    // same as the (n + 1)th nextLong() of new SplitMix64(seed)
+    public static long at(long seed, long n) {
+        return mix64(seed + (n + 1) * GOLDEN_GAMMA);
+    }
+
+    // Stafford variant 13 finaliser
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
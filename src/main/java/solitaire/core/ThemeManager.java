@@ -1,92 +1,88 @@
 package solitaire.core;
 
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
-import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 
+import java.net.URL;
+import java.util.List;
+import java.util.Locale;
+
+// Themes are stylesheets: base.css for shapes plus one color file
+// per theme. Nodes only get style classes, so switching themes is
+// a single stylesheet swap on the scene
 public class ThemeManager {
 
+    private static final String THEME_DIR = "/solitaire/themes/";
+
     private static Theme current = Theme.CLASSIC;
+    private static Scene scene;
 
     public static void setTheme(Theme theme) {
+        String old = stylesheet(current);
         current = theme;
+
+        if (scene != null) {
+            ObservableList<String> sheets = scene.getStylesheets();
+            int i = sheets.indexOf(old);
+            if (i >= 0) sheets.set(i, stylesheet(theme));
+            else sheets.add(stylesheet(theme));
+        }
     }
 
     public static Theme getTheme() {
         return current;
     }
 
+    // Puts the theme stylesheets on the main window's scene
+    // Later setTheme calls swap the color file on it
+    public static void install(Scene s) {
+        scene = s;
+        s.getStylesheets().setAll(stylesheets());
+    }
+
+    // Base sheet first, then the current theme's colors
+    public static List<String> stylesheets() {
+        return List.of(resource("base.css"), stylesheet(current));
+    }
+
     public static void applyBackground(Region boardRoot) {
         if (boardRoot == null) return;
 
-        String style = switch (current) {
-            case CLASSIC -> "-fx-background-color: radial-gradient(radius 170%, #2b6e36, #1f4d28);";
-            case OCEAN -> "-fx-background-color: linear-gradient(to bottom, #4fa3d1, #0d508c);";
-            case DARK -> "-fx-background-color: linear-gradient(to bottom, #1a1a1a, #000000);";
-        };
-
-        boardRoot.setStyle(style);
+        addClass(boardRoot, "board");
 
         javafx.scene.Parent parent = boardRoot.getParent();
         while (parent != null) {
             if (parent instanceof Region r) {
-                r.setStyle(style);
+                addClass(r, "board");
             }
             parent = parent.getParent();
         }
     }
 
     public static void styleCardText(Label lbl, boolean isRedSuit) {
-        switch (current) {
+        lbl.getStyleClass().removeAll("card-text", "red", "black");
+        lbl.getStyleClass().addAll("card-text", isRedSuit ? "red" : "black");
+    }
 
-            case CLASSIC -> {
-                lbl.setStyle((isRedSuit)
-                        ? "-fx-text-fill: #c03232; -fx-font-size:16px; -fx-font-weight:700;"
-                        : "-fx-text-fill: #222222; -fx-font-size:16px; -fx-font-weight:700;");
-            }
+    public static void styleCardFace(StackPane card) {
+        card.getStyleClass().remove("card");
+        addClass(card, "card-face");
+    }
 
-            case OCEAN -> {
-                lbl.setStyle((isRedSuit)
-                        ? "-fx-text-fill: #ff7171; -fx-font-size:16px; -fx-font-weight:700;"
-                        : "-fx-text-fill: #0066aa; -fx-font-size:16px; -fx-font-weight:700;");
-            }
+    private static void addClass(Region r, String styleClass) {
+        if (!r.getStyleClass().contains(styleClass)) r.getStyleClass().add(styleClass);
+    }
 
-            case DARK -> {
-                lbl.setStyle((isRedSuit)
-                        ? "-fx-text-fill: #ff5555; -fx-font-size:16px; -fx-font-weight:700;"
-                        : "-fx-text-fill: #dddddd; -fx-font-size:16px; -fx-font-weight:700;");
-            }
-        }
+    private static String stylesheet(Theme theme) {
+        return resource(theme.name().toLowerCase(Locale.ROOT) + ".css");
     }
 
-    public static void styleCardFace(StackPane card) {
-        String style = switch (current) {
-            case CLASSIC -> """
-            -fx-background-color: white;
-            -fx-border-color: #b5b5b5;
-            -fx-background-radius: 8; 
-            -fx-border-radius: 8;
-            -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.15), 6, 0, 0, 2);
-        """;
-
-            case OCEAN -> """
-            -fx-background-color: linear-gradient(#e6f3ff,#b5d9ff);
-            -fx-border-color: #2970b8;
-            -fx-background-radius: 8; 
-            -fx-border-radius: 8;
-            -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.25), 6, 0, 0, 2);
-        """;
-
-            case DARK -> """
-            -fx-background-color: linear-gradient(#333333,#181818);
-            -fx-border-color: #888888;
-            -fx-background-radius: 8; 
-            -fx-border-radius: 8;
-            -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.6), 6, 0, 0, 2);
-        """;
-        };
-
-        card.setStyle(style);
+    private static String resource(String name) {
+        URL url = ThemeManager.class.getResource(THEME_DIR + name);
+        if (url == null) throw new IllegalStateException("Missing stylesheet " + THEME_DIR + name);
+        return url.toExternalForm();
     }
 }
@@ -0,0 +1,89 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: UndoJournal.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Undo history as a ring buffer of packed ints
+// One int per move, no card lists: the cards are
+// still on the piles and are moved back on undo
+//   bits 0-3 type, 4-8 from, 9-13 to, 14-20 count, 21-27 flags
+// When full, the oldest entry is dropped
+//
+//*********************************************
+
+package solitaire.core;
+
+public final class UndoJournal {
+    public static final int NONE = -1;
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    // Shared flag bit: the move turned over the card under it
+    public static final int FLIPPED = 1;
+
+    private final int[] ring;
+    private final int mask;
+    private int head;   // next write position
+    private int size;
+
+    public UndoJournal() { this(DEFAULT_CAPACITY); }
+
+    /** @param capacity rounded up to a power of two */
+    public UndoJournal(int capacity) {
+        if (capacity < 1 || capacity > 1 << 24) throw new IllegalArgumentException("capacity 1..2^24");
+        int n = Integer.highestOneBit(capacity);
+        if (n < capacity) n <<= 1;
+        ring = new int[n];
+        mask = n - 1;
+    }
+
+    // ----- packing -----
+
+    public static int pack(int type, int from, int to, int count, int flags) {
+        return (type & 0x0F) | (from & 0x1F) << 4 | (to & 0x1F) << 9 | (count & 0x7F) << 14 | (flags & 0x7F) << 21;
+    }
+
+    public static int type(int e) { return e & 0x0F; }
+    public static int from(int e) { return (e >>> 4) & 0x1F; }
+    public static int to(int e) { return (e >>> 9) & 0x1F; }
+    public static int count(int e) { return (e >>> 14) & 0x7F; }
+    public static int flags(int e) { return (e >>> 21) & 0x7F; }
+    public static boolean flipped(int e) { return (flags(e) & FLIPPED) != 0; }
+
+    // ----- stack operations -----
+
+    public void push(int entry) {
+        ring[head] = entry;
+        head = (head + 1) & mask;
+        if (size < ring.length) size++;
+    }
+
+    public void push(int type, int from, int to, int count, int flags) {
+        push(pack(type, from, to, count, flags));
+    }
+
+    /** Latest entry, removed; NONE if empty */
+    public int pop() {
+        if (size == 0) return NONE;
+        head = (head - 1) & mask;
+        size--;
+        return ring[head];
+    }
+
+    /** Latest entry, left in place; NONE if empty */
+    public int peek() {
+        return size == 0 ? NONE : ring[(head - 1) & mask];
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+    public int capacity() { return ring.length; }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+}
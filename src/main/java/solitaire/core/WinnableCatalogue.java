@@ -0,0 +1,252 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: WinnableCatalogue.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Persistent record of which deals a solver has checked,
+// for the "winnable deals only" option
+//   <name>.wins  deal numbers proven winnable, appended as found
+//                int magic "SWIN", short version, long per deal
+//   <name>.lost  Bloom filter of deals proven unwinnable
+//                int magic "SLST", short version (2), BloomFilter
+// Known answers are free, so no deal is solved twice;
+// the filter can wrongly skip ~1% of new deals, never
+// wrongly offer one
+// All values big-endian (DataOutputStream)
+//
+//*********************************************
+
+package solitaire.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+public class WinnableCatalogue implements AutoCloseable {
+
+    public enum Verdict {
+        WINNABLE,     // solver found a win
+        UNWINNABLE,   // proven unwinnable (full search); kept for good
+        UNKNOWN       // budget ran out, may be checked again later
+    }
+
+    // Solves one deal from the start; one instance per thread
+    @FunctionalInterface
+    public interface Checker {
+        Verdict check(DealId deal);
+    }
+
+    public static final int WINS_MAGIC = 0x5357494E;   // "SWIN"
+    public static final int LOST_MAGIC = 0x534C5354;   // "SLST"
+    public static final short VERSION = 1;
+
+    // Version 1 filters could hold deals a checker only gave up on;
+    // they are dropped on load and rebuilt from proven losses
+    public static final short LOST_VERSION = 2;
+    private static final int HEADER_BYTES = 4 + 2;
+
+    // New candidates are drawn from deal numbers [0, RANGE)
+    public static final long RANGE = 1L << 24;
+
+    // About 1.2 MB of filter for a million rejected deals
+    private static final int LOST_CAPACITY = 1 << 20;
+
+    // Rejections between rewrites of the .lost file
+    private static final int SAVE_EVERY = 32;
+
+    private final String name;
+    private final Path winsFile;
+    private final Path lostFile;
+
+    private final List<Long> wins = new ArrayList<>();
+    private final Set<Long> winSet = new HashSet<>();
+    private BloomFilter lost = new BloomFilter(LOST_CAPACITY);
+    private int unsaved = 0;
+
+    private WinnableCatalogue(Path dir, String name) {
+        this.name = name;
+        this.winsFile = dir.resolve(name + ".wins");
+        this.lostFile = dir.resolve(name + ".lost");
+    }
+
+    // Loads (or starts) the catalogue stored in dir under name
+    public static WinnableCatalogue open(Path dir, String name) throws IOException {
+        Files.createDirectories(dir);
+        WinnableCatalogue c = new WinnableCatalogue(dir, name);
+        c.load();
+        return c;
+    }
+
+    public String getName() { return name; }
+    public synchronized int winnableCount() { return wins.size(); }
+    public synchronized int unwinnableCount() { return lost.size(); }
+
+    // A random known-winnable deal, or null if none yet
+    public synchronized DealId randomWinnable() {
+        if (wins.isEmpty()) return null;
+        return DealId.of(wins.get(ThreadLocalRandom.current().nextInt(wins.size())));
+    }
+
+    // Next deal to check: a random number from the range
+    // (known ones are skipped by discover, not here)
+    public DealId candidate() {
+        return DealId.of(ThreadLocalRandom.current().nextLong(RANGE));
+    }
+
+    /**
+     * True if the deal is winnable. Known deals are answered from the
+     * catalogue; anything else is checked and the answer recorded.
+     * The check runs outside the lock, so threads can solve in parallel.
+     */
+    public boolean accept(DealId deal, Checker checker) {
+        long n = deal.getNumber();
+        synchronized (this) {
+            if (winSet.contains(n)) return true;
+            if (lost.mightContain(n)) return false;
+        }
+        Verdict v = checker.check(deal);
+        record(n, v);
+        return v == Verdict.WINNABLE;
+    }
+
+    /**
+     * True only if this call proved the deal winnable and added it.
+     * Deals already known either way are skipped without a check,
+     * and two threads racing on one number cannot both get true,
+     * so a pool fed from here never queues the same deal twice.
+     */
+    public boolean discover(DealId deal, Checker checker) {
+        long n = deal.getNumber();
+        synchronized (this) {
+            if (winSet.contains(n) || lost.mightContain(n)) return false;
+        }
+        return record(n, checker.check(deal));
+    }
+
+    /**
+     * Pool of deals this catalogue vouches for.
+     * The threads only queue wins they have just found, so each queued
+     * deal is new; while the queue is empty, next() serves a random
+     * known win instead, and null before the first one is found
+     * (never an unchecked deal).
+     * @param checkers creates one checker per pool thread
+     */
+    public DealPool pool(int capacity, int threads, Supplier<? extends Checker> checkers) {
+        return new DealPool(name, capacity, threads, this::candidate,
+                () -> {
+                    Checker checker = checkers.get();
+                    return d -> discover(d, checker);
+                },
+                this::randomWinnable);
+    }
+
+    // Writes the rejected-deal filter; the wins file is always current
+    public synchronized void save() throws IOException {
+        Path tmp = lostFile.resolveSibling(lostFile.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(LOST_MAGIC);
+            out.writeShort(LOST_VERSION);
+            lost.writeTo(out);
+        }
+        Files.move(tmp, lostFile, StandardCopyOption.REPLACE_EXISTING);
+        unsaved = 0;
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (unsaved > 0) save();
+        } catch (IOException e) {
+            System.err.println("Could not save " + lostFile + ": " + e.getMessage());
+        }
+    }
+
+    // ----- internals -----
+
+    // True if this added a new win
+    private synchronized boolean record(long n, Verdict v) {
+        try {
+            if (v == Verdict.WINNABLE) {
+                if (!winSet.add(n)) return false;
+                wins.add(n);
+                appendWin(n);
+                return true;
+            } else if (v == Verdict.UNWINNABLE) {
+                lost.add(n);
+                if (++unsaved >= SAVE_EVERY) save();
+            }
+        } catch (IOException e) {
+            // Keep going in memory; the answer is only lost for the next run
+            System.err.println("Could not update catalogue " + name + ": " + e.getMessage());
+            return v == Verdict.WINNABLE;
+        }
+        return false;
+    }
+
+    private void appendWin(long n) throws IOException {
+        boolean fresh = !Files.exists(winsFile) || Files.size(winsFile) == 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(winsFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+            if (fresh) {
+                out.writeInt(WINS_MAGIC);
+                out.writeShort(VERSION);
+            }
+            out.writeLong(n);
+        }
+    }
+
+    private void load() throws IOException {
+        // Cut off a half-written last entry, so later appends line up
+        if (Files.exists(winsFile) && Files.size(winsFile) > HEADER_BYTES) {
+            long tail = (Files.size(winsFile) - HEADER_BYTES) % 8;
+            if (tail != 0) {
+                try (FileChannel ch = FileChannel.open(winsFile, StandardOpenOption.WRITE)) {
+                    ch.truncate(ch.size() - tail);
+                }
+            }
+        }
+        if (Files.exists(winsFile) && Files.size(winsFile) > 0) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(winsFile)))) {
+                if (in.readInt() != WINS_MAGIC) throw new IOException("Not a wins catalogue: " + winsFile);
+                short version = in.readShort();
+                if (version != VERSION) throw new IOException("Unsupported catalogue version " + version);
+                while (true) {
+                    long n;
+                    try {
+                        n = in.readLong();
+                    } catch (EOFException end) {
+                        break;
+                    }
+                    if (winSet.add(n)) wins.add(n);
+                }
+            }
+        }
+        if (Files.exists(lostFile)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(lostFile)))) {
+                if (in.readInt() != LOST_MAGIC) throw new IOException("Not a lost-deal filter: " + lostFile);
+                short version = in.readShort();
+                if (version > LOST_VERSION) throw new IOException("Unsupported filter version " + version);
+                if (version == LOST_VERSION) lost = BloomFilter.readFrom(in);
+                else unsaved = 1;   // rewrite it on close
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+//*********************************************
+// Solitaire – Prototype 2
+// File: Zobrist.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// 64-bit Zobrist keys for card positions
+// A position hash is the XOR of key(pile, index, card) over
+// every card, so a move only XORs out the cards it lifts and
+// XORs them back in where they land
+// Keys come from a fixed mixing function instead of a random
+// table, so they are the same in every run and need no memory
+//
+//*********************************************
+
+package solitaire.core;
+
+public final class Zobrist {
+
+    private Zobrist() {}
+
+    /**
+     * Key for one card at one place.
+     * @param pile pile number in the game's own numbering (0..127)
+     * @param index position in the pile, 0 = bottom (0..255)
+     * @param card card code from code() (0..255)
+     */
+    public static long key(int pile, int index, int card) {
+        long z = ((long) pile << 16 | (long) index << 8 | card) * 0x9E3779B97F4A7C15L + 0x632BE59BD9B4E019L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Card code: rank bits 0-3, suit ordinal bits 4-5, face-up bit 7 */
+    public static int code(int rank, int suit, boolean faceUp) {
+        return rank | suit << 4 | (faceUp ? 0x80 : 0);
+    }
+}
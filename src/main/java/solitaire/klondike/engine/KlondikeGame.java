@@ -17,60 +17,95 @@ package solitaire.klondike.engine;
 // - keeps track of stock, moves, and win detection
 //*********************************************
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Deque;
 import java.util.List;
-import java.util.Random;
 
+import solitaire.core.DealId;
 import solitaire.core.PileType;
+import solitaire.core.Shuffler;
+import solitaire.core.UndoJournal;
+import solitaire.core.Zobrist;
 import solitaire.klondike.model.Card;
 import solitaire.klondike.model.Move;
 import solitaire.klondike.model.Pile;
-import solitaire.klondike.model.Suit;
 
 public class KlondikeGame {
 
     public static final int TABLEAU_COUNT = 7;
     public static final int FOUNDATION_COUNT = 4;
 
+    // Pile indexes used by Move records:
+    // 0-6 tableau, 7-10 foundations, then stock and waste
+    public static final int FOUNDATION_BASE = TABLEAU_COUNT;
+    public static final int STOCK_INDEX = FOUNDATION_BASE + FOUNDATION_COUNT;
+    public static final int WASTE_INDEX = STOCK_INDEX + 1;
+
     public final List<Pile> tableaux = new ArrayList<>();
     public final List<Pile> foundations = new ArrayList<>();
     public final Pile stock = new Pile(PileType.STOCK);
+    public final Pile waste = new Pile(PileType.WASTE);
+
+    // Undo history, one packed int per move (type, from, to, count, flip)
+    private final UndoJournal undo = new UndoJournal();
 
-    private final Deque<Move> undo = new ArrayDeque<>();
+    // Deal buffer of card ids, reused by every newGame
+    private static final int DECK_SIZE = 52;
+    private final byte[] deck = new byte[DECK_SIZE];
+    private final Shuffler shuffler = new Shuffler();
 
     private int moveCount = 0;
     private int score = 500;
 
+    // Zobrist hash: one value per pile, XORed together
+    // Cards are moved by callers, so a pile is rehashed when a move
+    // registered against it (at most 24 cards), not card by card
+    private static final int PILE_COUNT = WASTE_INDEX + 1;
+    private final long[] pileHash = new long[PILE_COUNT];
+    private long hash;
+
+    // Piles changed since the last takeDirty(), one bit per pile index
+    private int dirty;
+    public static final int ALL_PILES = (1 << PILE_COUNT) - 1;
+
+    private DealId dealId;
+
     // ----- public API -----
 
     // New game with shuffle
     public void newGame() {
-        newGame(System.currentTimeMillis());
+        newGame(DealId.random());
+    }
+
+    // Numbered deal; the same number always deals the same layout
+    public void newGame(DealId deal) {
+        newGame(deal.seed());
+        dealId = deal;
+    }
+
+    // Number of the current deal, null if it was started from a raw seed
+    public DealId getDealId() {
+        return dealId;
     }
 
     // New game
     public void newGame(long seed) {
-        tableaux.clear();
-        foundations.clear();
-        stock.getCards().clear();
         undo.clear();
+        dealId = null;
         moveCount = 0;
         score = 500;
 
-        // Create piles
-        for (int i = 0; i < TABLEAU_COUNT; i++) {
-            tableaux.add(new Pile(PileType.TABLEAU));
-        }
-        for (int i = 0; i < FOUNDATION_COUNT; i++) {
-            foundations.add(new Pile(PileType.FOUNDATION));
-        }
+        // Create piles the first time, empty them after that
+        createPiles();
+        for (Pile p : tableaux) p.clear();
+        for (Pile p : foundations) p.clear();
+        stock.clear();
+        waste.clear();
 
         // Build and shuffle deck
-        List<Card> deck = buildDeck();
-        Collections.shuffle(deck, new Random(seed));
+        // Ordered deck is suit by suit, ace to king, so card ids run 0-51;
+        // the shuffle matches Collections.shuffle with the same seed
+        Shuffler.identity(deck, DECK_SIZE);
+        shuffler.shuffle(deck, DECK_SIZE, seed);
 
         // Deal to tableau:
         // 1 - 7
@@ -79,32 +114,50 @@ public class KlondikeGame {
         for (int col = 0; col < TABLEAU_COUNT; col++) {
             Pile pile = tableaux.get(col);
             for (int r = 0; r <= col; r++) {
-                Card c = deck.get(deckIndex++);
-                c.setFaceUp(r == col);
-                pile.push(c);
+                Card c = Card.of(deck[deckIndex++]);
+                if (r == col) pile.push(c);
+                else pile.pushFaceDown(c);
             }
         }
 
         // Remaining cards go to stock (face down)
-        while (deckIndex < deck.size()) {
-            Card c = deck.get(deckIndex++);
-            c.setFaceUp(false);
-            stock.push(c);
+        while (deckIndex < DECK_SIZE) {
+            stock.pushFaceDown(Card.of(deck[deckIndex++]));
         }
+        resetHash();
     }
 
-    // ----- helpers -----
-
-    private List<Card> buildDeck() {
-        List<Card> deck = new ArrayList<>(52);
-        for (Suit s : Suit.values()) {
-            for (int rank = 1; rank <= 13; rank++) {
-                deck.add(new Card(s, rank, false));
+    /**
+     * Independent copy of the position (piles, score, deal; no undo
+     * history), e.g. for a search on another thread
+     */
+    public KlondikeGame copy() {
+        KlondikeGame g = new KlondikeGame();
+        g.createPiles();
+        for (int p = 0; p < PILE_COUNT; p++) {
+            Pile src = pileAt(p), dst = g.pileAt(p);
+            List<Card> cards = src.getCards();
+            for (int i = 0; i < cards.size(); i++) {
+                if (src.isFaceUp(i)) dst.push(cards.get(i));
+                else dst.pushFaceDown(cards.get(i));
             }
         }
-        return deck;
+        g.moveCount = moveCount;
+        g.score = score;
+        g.dealId = dealId;
+        g.resetHash();
+        return g;
+    }
+
+    // Pile for a Move index
+    public Pile pileAt(int index) {
+        if (index < FOUNDATION_BASE) return tableaux.get(index);
+        if (index < STOCK_INDEX) return foundations.get(index - FOUNDATION_BASE);
+        return index == STOCK_INDEX ? stock : waste;
     }
 
+    // ----- helpers -----
+
     // win check: all 4 foundations have 13 cards
     public boolean isWin() {
         for (Pile f : foundations) {
@@ -124,13 +177,101 @@ public class KlondikeGame {
         return score;
     }
 
+    // Records a move that has already been made on the piles
     public void registerMove(Move m) {
-        undo.push(m);
+        registerMove(m.getType(), m.getFromIndex(), m.getToIndex(), m.getCount(), m.isFlippedAfterMove());
+    }
+
+    // Same, without building a Move first
+    public void registerMove(Move.Type type, int fromIndex, int toIndex, int count, boolean flippedAfterMove) {
+        undo.push(type.ordinal(), fromIndex, toIndex, count, flippedAfterMove ? UndoJournal.FLIPPED : 0);
         moveCount++;
+        rehash(fromIndex);
+        rehash(toIndex);
     }
 
+    // Reverses the last registered move using the cards still on the piles
     public boolean undo() {
-        if (undo.isEmpty()) return false;
+        int e = undo.pop();
+        if (e == UndoJournal.NONE) return false;
+
+        Pile from = pileAt(UndoJournal.from(e));
+        Pile to = pileAt(UndoJournal.to(e));
+        int count = UndoJournal.count(e);
+
+        if (UndoJournal.type(e) == Move.Type.FLIP_CARD.ordinal()) {
+            if (!from.isEmpty()) from.setFaceUp(from.getCards().size() - 1, false);
+        } else if (UndoJournal.from(e) == STOCK_INDEX && UndoJournal.to(e) == WASTE_INDEX) {
+            // Draw: cards went over one at a time, so they come back reversed and face down
+            for (int i = 0; i < count; i++) stock.pushFaceDown(waste.pop());
+        } else if (UndoJournal.from(e) == WASTE_INDEX && UndoJournal.to(e) == STOCK_INDEX) {
+            // Recycle: turn the stock back over onto the waste
+            for (int i = 0; i < count; i++) waste.push(stock.pop());
+        } else {
+            // Card under the run was turned up by the move: turn it back down first
+            if (UndoJournal.flipped(e) && !from.isEmpty()) from.setFaceUp(from.getCards().size() - 1, false);
+            to.moveTopTo(from, count);
+        }
+
+        moveCount = Math.max(0, moveCount - 1);
+        rehash(UndoJournal.from(e));
+        rehash(UndoJournal.to(e));
         return true;
     }
-}
\ No newline at end of file
+
+    /** Bit p set if pile p changed since the last call; clears the set */
+    public int takeDirty() {
+        int d = dirty;
+        dirty = 0;
+        return d;
+    }
+
+    // ----- Zobrist position hash -----
+
+    // Current position hash, O(1)
+    public long positionHash() { return hash; }
+
+    // Full recompute from every pile, for checking the incremental value
+    public long recomputeHash() {
+        long h = 0;
+        for (int p = 0; p < PILE_COUNT; p++) h ^= hashPile(p);
+        return h;
+    }
+
+    private void createPiles() {
+        if (!tableaux.isEmpty()) return;
+        for (int i = 0; i < TABLEAU_COUNT; i++) {
+            tableaux.add(new Pile(PileType.TABLEAU));
+        }
+        for (int i = 0; i < FOUNDATION_COUNT; i++) {
+            foundations.add(new Pile(PileType.FOUNDATION));
+        }
+    }
+
+    private void resetHash() {
+        hash = 0;
+        for (int p = 0; p < PILE_COUNT; p++) {
+            pileHash[p] = hashPile(p);
+            hash ^= pileHash[p];
+        }
+        dirty = ALL_PILES;
+    }
+
+    private void rehash(int p) {
+        long h = hashPile(p);
+        hash ^= pileHash[p] ^ h;
+        pileHash[p] = h;
+        dirty |= 1 << p;
+    }
+
+    private long hashPile(int p) {
+        Pile pile = pileAt(p);
+        List<Card> cards = pile.getCards();
+        long h = 0;
+        for (int i = 0; i < cards.size(); i++) {
+            Card c = cards.get(i);
+            h ^= Zobrist.key(p, i, Zobrist.code(c.getRank(), c.getSuit().ordinal(), pile.isFaceUp(i)));
+        }
+        return h;
+    }
+}
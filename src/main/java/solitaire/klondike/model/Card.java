@@ -10,32 +10,48 @@ package solitaire.klondike.model;
 // Dates: 10/22/2025–11/11/2025
 //
 // Description:
-// A single playing card used in Klondike. Stores suit, rank,
-// and face-up state, and includes helper methods
-// for comparing card relationships
+// A single playing card used in Klondike. Stores suit and
+// rank, and includes helper methods for comparing card
+// relationships. Immutable: there is one shared instance per
+// card (Card.of); face-up state is kept by the Pile
 //*********************************************
 
 
-public class Card {
+public final class Card {
     private final Suit suit;
     private final int rank;   // 1 = Ace --- 13 = King
-    private boolean faceUp;
 
-    public Card(Suit suit, int rank, boolean faceUp) {
-        if (rank < 1 || rank > 13) {
-            throw new IllegalArgumentException("Rank must be between 1 and 13");
+    // The 52 shared cards, index suit.ordinal() * 13 + rank - 1
+    private static final Card[] ALL = new Card[52];
+    static {
+        for (Suit s : Suit.values()) {
+            for (int r = 1; r <= 13; r++) {
+                ALL[s.ordinal() * 13 + r - 1] = new Card(s, r);
+            }
         }
+    }
+
+    private Card(Suit suit, int rank) {
         this.suit = suit;
         this.rank = rank;
-        this.faceUp = faceUp;
+    }
+
+    // Shared instance for this suit and rank
+    public static Card of(Suit suit, int rank) {
+        if (rank < 1 || rank > 13) {
+            throw new IllegalArgumentException("Rank must be between 1 and 13");
+        }
+        return ALL[suit.ordinal() * 13 + rank - 1];
+    }
+
+    // The shared card for an id suit.ordinal() * 13 + rank - 1
+    public static Card of(int id) {
+        return ALL[id];
     }
 
     public Suit getSuit() { return suit; }
     public int getRank() { return rank; }
 
-    public boolean isFaceUp() { return faceUp; }
-    public void setFaceUp(boolean faceUp) { this.faceUp = faceUp; }
-
     // Checks if card is exactly 1 rank lower and same suit
     public boolean isOneLowerSameSuit(Card other) {
         return other != null && this.suit == other.suit && this.rank + 1 == other.rank;
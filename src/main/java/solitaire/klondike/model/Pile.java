@@ -12,12 +12,14 @@ package solitaire.klondike.model;
 // Description:
 // A pile of cards (tableau, foundation, or stock)
 // used in Klondike Solitaire. Handles adding,
-// removing, and flipping cards
+// removing, and flipping cards. Face-down cards are
+// always at the bottom, so the pile just counts them
 //*********************************************
 
 
 import java.util.ArrayList;
 import java.util.List;
+import solitaire.core.PileChange;
 import solitaire.core.PileType;
 
 public class Pile {
@@ -25,6 +27,14 @@ public class Pile {
     private final PileType type;
     private final List<Card> cards = new ArrayList<>();
 
+    // Cards below this index are face down, the rest face up
+    private int faceDown = 0;
+
+    // Bumped on every change; listeners get a PileChange record for each
+    // Changes made straight through getCards() are not reported
+    private long version = 0;
+    private List<PileChange.Listener> listeners = null;
+
     public Pile(PileType type) {
         this.type = type;
     }
@@ -45,12 +55,39 @@ public class Pile {
         return isEmpty() ? null : cards.get(cards.size() - 1);
     }
 
+    public boolean isFaceUp(int index) {
+        return index >= faceDown;
+    }
+
+    public boolean isTopFaceUp() {
+        return faceDown < cards.size();
+    }
+
+    public int faceDownCount() {
+        return faceDown;
+    }
+
+    // Adds a card face up
     public void push(Card c) {
         cards.add(c);
+        changed(PileChange.push(1));
+    }
+
+    // Adds a card face down; every card under it must be face down too
+    public void pushFaceDown(Card c) {
+        if (faceDown != cards.size()) {
+            throw new IllegalStateException("Face-down card on a face-up one");
+        }
+        cards.add(c);
+        faceDown++;
+        changed(PileChange.push(1));
     }
 
     public Card pop() {
-        return isEmpty() ? null : cards.remove(cards.size() - 1);
+        if (isEmpty()) return null;
+        Card c = cards.remove(cards.size() - 1);
+        changed(PileChange.pop(1));
+        return c;
     }
 
     // Return view of top N cards without removal
@@ -63,21 +100,75 @@ public class Pile {
         int start = cards.size() - count;
         List<Card> slice = new ArrayList<>(cards.subList(start, cards.size()));
         cards.subList(start, cards.size()).clear();
+        changed(PileChange.pop(count));
         return slice;
     }
 
+    // Moves the top N cards onto another pile, keeping their order
+    // (no temporary list). Face-down cards stay down only when they
+    // land on face-down cards or an empty pile
+    public void moveTopTo(Pile dest, int count) {
+        int start = cards.size() - count;
+        int down = Math.max(0, faceDown - start);
+        boolean destAllDown = dest.faceDown == dest.cards.size();
+
+        for (int i = start; i < cards.size(); i++) dest.cards.add(cards.get(i));
+        for (int i = 0; i < count; i++) cards.remove(cards.size() - 1);
+        if (destAllDown) dest.faceDown += down;
+        changed(PileChange.pop(count));
+        dest.changed(PileChange.push(count));
+    }
+
     // Adds group of cards in order to the pile
     public void addRun(List<Card> run) {
         cards.addAll(run);
+        changed(PileChange.push(run.size()));
     }
 
     // Flips top card face-up
     public void flipTopUpIfNeeded() {
-        if (!isEmpty()) {
-            Card top = getTopCard();
-            if (!top.isFaceUp()) {
-                top.setFaceUp(true);
-            }
+        if (!isEmpty() && !isTopFaceUp()) {
+            setFaceUp(cards.size() - 1, true);
         }
     }
+
+    // Turns one card in the pile, reported as a flip
+    // Only the card at the face-down boundary can turn
+    public void setFaceUp(int index, boolean up) {
+        if (isFaceUp(index) == up) return;
+        if (index != (up ? faceDown - 1 : faceDown)) {
+            throw new IllegalArgumentException("Only the card at the face-down boundary can turn");
+        }
+        faceDown += up ? -1 : 1;
+        changed(PileChange.flip(index, up));
+    }
+
+    public void clear() {
+        int n = cards.size();
+        if (n == 0) return;
+        cards.clear();
+        changed(PileChange.pop(n));
+    }
+
+    // ----- change feed -----
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void addListener(PileChange.Listener l) {
+        if (listeners == null) listeners = new ArrayList<>(2);
+        listeners.add(l);
+    }
+
+    public void removeListener(PileChange.Listener l) {
+        if (listeners != null) listeners.remove(l);
+    }
+
+    private void changed(int change) {
+        if (faceDown > cards.size()) faceDown = cards.size();
+        version++;
+        if (listeners == null) return;
+        for (int i = 0; i < listeners.size(); i++) listeners.get(i).pileChanged(change, version);
+    }
 }
\ No newline at end of file
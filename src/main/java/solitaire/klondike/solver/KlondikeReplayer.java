@@ -0,0 +1,123 @@
+package solitaire.klondike.solver;
+
+//*********************************************
+// Klondike Solitaire – Prototype 2
+// File: KlondikeReplayer.java
+//
+// Author: Jenascia Drew
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Plays solver moves on a real KlondikeGame.
+// Every placement is checked with KlondikeRules first,
+// so a replayed line doubles as a verification
+//*********************************************
+
+import java.util.List;
+
+import solitaire.klondike.engine.KlondikeGame;
+import solitaire.klondike.model.Card;
+import solitaire.klondike.model.Move;
+import solitaire.klondike.model.Pile;
+import solitaire.klondike.rules.KlondikeRules;
+
+public final class KlondikeReplayer {
+
+    private KlondikeReplayer() {}
+
+    // Applies the whole line, stopping at the first illegal move
+    public static boolean replay(KlondikeGame game, List<SolverMove> moves, int drawCount) {
+        for (SolverMove m : moves) {
+            if (!apply(game, m, drawCount)) return false;
+        }
+        return true;
+    }
+
+    // Applies one move; returns false (game unchanged) if it is not legal
+    public static boolean apply(KlondikeGame game, SolverMove m, int drawCount) {
+        switch (m.getType()) {
+            case TABLEAU_TO_FOUNDATION -> {
+                return toFoundation(game, m.getFrom());
+            }
+            case WASTE_TO_FOUNDATION -> {
+                return toFoundation(game, KlondikeGame.WASTE_INDEX);
+            }
+            case TABLEAU_TO_TABLEAU -> {
+                return toTableau(game, m.getFrom(), m.getCount(), m.getTo());
+            }
+            case WASTE_TO_TABLEAU -> {
+                return toTableau(game, KlondikeGame.WASTE_INDEX, 1, m.getTo());
+            }
+            case FOUNDATION_TO_TABLEAU -> {
+                int f = foundationFor(game, m.getFrom(), 0);
+                return f >= 0 && toTableau(game, KlondikeGame.FOUNDATION_BASE + f, 1, m.getTo());
+            }
+            case DRAW -> {
+                if (game.stock.isEmpty()) return false;
+                int n = Math.min(drawCount, game.stock.getCards().size());
+                for (int i = 0; i < n; i++) game.waste.push(game.stock.pop());
+                game.registerMove(Move.Type.MOVE_CARDS, KlondikeGame.STOCK_INDEX, KlondikeGame.WASTE_INDEX, n, false);
+                return true;
+            }
+            case RECYCLE -> {
+                if (!game.stock.isEmpty() || game.waste.isEmpty()) return false;
+                int n = game.waste.getCards().size();
+                while (!game.waste.isEmpty()) game.stock.pushFaceDown(game.waste.pop());
+                game.registerMove(Move.Type.MOVE_CARDS, KlondikeGame.WASTE_INDEX, KlondikeGame.STOCK_INDEX, n, false);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean toFoundation(KlondikeGame game, int fromIndex) {
+        Pile from = game.pileAt(fromIndex);
+        Card c = from.getTopCard();
+        if (c == null || !from.isTopFaceUp()) return false;
+
+        int f = foundationFor(game, c.getSuit().ordinal(), c.getRank());
+        if (f < 0 || !KlondikeRules.canPlaceOnFoundation(c, game.foundations.get(f))) return false;
+
+        game.foundations.get(f).push(from.pop());
+        record(game, fromIndex, KlondikeGame.FOUNDATION_BASE + f, 1);
+        return true;
+    }
+
+    private static boolean toTableau(KlondikeGame game, int fromIndex, int count, int toIndex) {
+        Pile from = game.pileAt(fromIndex);
+        Pile to = game.tableaux.get(toIndex);
+        int size = from.getCards().size();
+        if (count < 1 || count > size) return false;
+
+        Card head = from.getCards().get(size - count);
+        if (!from.isFaceUp(size - count) || !KlondikeRules.canPlaceOnTableau(head, to)) return false;
+
+        from.moveTopTo(to, count);
+        record(game, fromIndex, toIndex, count);
+        return true;
+    }
+
+    // Registers the move and turns over a newly exposed tableau card
+    private static void record(KlondikeGame game, int fromIndex, int toIndex, int count) {
+        Pile from = game.pileAt(fromIndex);
+        boolean flip = fromIndex < KlondikeGame.FOUNDATION_BASE
+                && !from.isEmpty() && !from.isTopFaceUp();
+        from.flipTopUpIfNeeded();
+
+        game.registerMove(Move.Type.MOVE_CARDS, fromIndex, toIndex, count, flip);
+    }
+
+    // Foundation already holding this suit, or the first empty one for an ace
+    private static int foundationFor(KlondikeGame game, int suit, int rank) {
+        for (int i = 0; i < KlondikeGame.FOUNDATION_COUNT; i++) {
+            Card top = game.foundations.get(i).getTopCard();
+            if (top != null && top.getSuit().ordinal() == suit) return i;
+        }
+        if (rank != 1) return -1;
+        for (int i = 0; i < KlondikeGame.FOUNDATION_COUNT; i++) {
+            if (game.foundations.get(i).isEmpty()) return i;
+        }
+        return -1;
+    }
+}
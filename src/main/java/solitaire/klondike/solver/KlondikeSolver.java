@@ -0,0 +1,538 @@
+package solitaire.klondike.solver;
+
+//*********************************************
+// Klondike Solitaire – Prototype 2
+// File: KlondikeSolver.java
+//
+// Author: Jenascia Drew
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Depth-first Klondike solver:
+// - works on a private byte-packed copy of the position
+//   (make/unmake, no allocation per node)
+// - fixed-size transposition table of 64-bit position keys
+//   so memory stays bounded no matter how long it runs
+// - safe foundation plays are forced, not branched on
+// - a run is only split to free a card for the foundation;
+//   that skips some legal lines, so a failed search that
+//   skipped any reports UNKNOWN rather than UNSOLVABLE
+// - stops at a node or time budget
+// One instance is not thread-safe; use one per worker
+//*********************************************
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import solitaire.core.HintService;
+import solitaire.core.WinnableCatalogue;
+import solitaire.klondike.engine.KlondikeGame;
+import solitaire.klondike.model.Card;
+import solitaire.klondike.model.Pile;
+
+public class KlondikeSolver {
+
+    public static final int DEFAULT_DRAW_COUNT = 1;
+    public static final long DEFAULT_NODE_LIMIT = 5_000_000;
+    public static final long DEFAULT_TIME_LIMIT_MILLIS = 2_000;
+    public static final int DEFAULT_TABLE_BITS = 20;   // 8 MB
+    public static final int MAX_DEPTH = 1024;
+
+    // Appended to a hint that starts a proven winning line
+    public static final String WINS = " (wins)";
+
+    private static final int COLS = KlondikeGame.TABLEAU_COUNT;
+    private static final int STRIDE = 24;               // longest column is 6 down + 13 up
+    private static final int MAX_MOVES = 128;
+
+    // Move encoding: type bits 0-2, a bits 3-6, b bits 7-10, count bits 11-15,
+    // reveal flag bit 16, previous waste position bits 17-21
+    private static final int T2F = 0, W2F = 1, T2T = 2, W2T = 3, F2T = 4, DRAW = 5, RECYCLE = 6;
+    private static final int REVEAL = 1 << 16;
+
+    private final int drawCount;
+    private final long nodeLimit;
+    private final long timeLimitNanos;
+
+    // Position: tableau columns, foundation ranks by suit, talon = waste + stock
+    private final byte[] tab = new byte[COLS * STRIDE];
+    private final int[] len = new int[COLS];
+    private final int[] down = new int[COLS];
+    private final int[] found = new int[4];
+    private final byte[] talon = new byte[52];
+    private int talonLen;
+    private int wastePos;     // talon[0..wastePos) is the waste, top at wastePos - 1
+
+    // Transposition table: key bits 8-63 plus an 8-bit generation stamp,
+    // so a new solve does not have to clear the table
+    private final long[] table;
+    private final int tableMask;
+    private int gen = 0;
+
+    private final int[] path = new int[MAX_DEPTH];
+    private final int[][] moveBuf = new int[MAX_DEPTH][MAX_MOVES];
+    private int solutionLength;
+    private long nodes;
+    private long deadline;
+    private boolean outOfBudget;
+    private boolean depthCut;
+    private boolean pruned;   // a legal split-run move was skipped
+    private BooleanSupplier stop;   // set while a hint search runs
+
+    public KlondikeSolver() {
+        this(DEFAULT_DRAW_COUNT, DEFAULT_NODE_LIMIT, DEFAULT_TIME_LIMIT_MILLIS, DEFAULT_TABLE_BITS);
+    }
+
+    public KlondikeSolver(int drawCount, long nodeLimit, long timeLimitMillis, int tableBits) {
+        if (drawCount < 1 || drawCount > 3) throw new IllegalArgumentException("drawCount 1..3");
+        if (tableBits < 10 || tableBits > 28) throw new IllegalArgumentException("tableBits 10..28");
+        this.drawCount = drawCount;
+        this.nodeLimit = nodeLimit;
+        this.timeLimitNanos = timeLimitMillis * 1_000_000L;
+        this.table = new long[1 << tableBits];
+        this.tableMask = table.length - 1;
+    }
+
+    public int getDrawCount() { return drawCount; }
+
+    // Deal the seed and solve it
+    public SolverResult solve(long seed) {
+        KlondikeGame game = new KlondikeGame();
+        game.newGame(seed);
+        return solve(game);
+    }
+
+    // Solve from the current position of the game (game is not modified)
+    public SolverResult solve(KlondikeGame game) {
+        capture(game);
+        long t0 = System.nanoTime();
+        boolean won = search(t0);
+        long elapsed = System.nanoTime() - t0;
+
+        SolverResult.Status status = won ? SolverResult.Status.SOLVED
+                : (outOfBudget || depthCut || pruned) ? SolverResult.Status.UNKNOWN
+                : SolverResult.Status.UNSOLVABLE;
+
+        List<SolverMove> line = new ArrayList<>(won ? solutionLength : 0);
+        if (won) {
+            for (int i = 0; i < solutionLength; i++) line.add(toSolverMove(path[i]));
+        }
+        return new SolverResult(status, line, nodes, elapsed);
+    }
+
+    /**
+     * Anytime hint for the game's position: the move the search tries
+     * first is reported at once, then the first move of a winning line
+     * (text ending in WINS) if one turns up before stop says true or
+     * the budget runs out.
+     * The game is only read here; hand in a copy() if the real one
+     * can change meanwhile.
+     * Moves reach the sink in the solver's own encoding, with a description.
+     */
+    public void hint(KlondikeGame game, HintService.Sink sink, BooleanSupplier stop) {
+        capture(game);
+        int first = safeMove();
+        if (first < 0 && generate(moveBuf[0]) > 0) first = moveBuf[0][0];
+        if (first < 0) return;
+        sink.found(first, toSolverMove(first).toString());
+
+        this.stop = stop;
+        try {
+            if (search(System.nanoTime()) && solutionLength > 0) {
+                sink.found(path[0], toSolverMove(path[0]) + WINS);
+            }
+        } finally {
+            this.stop = null;
+        }
+    }
+
+    // ---------- search ----------
+
+    private boolean search(long t0) {
+        if (++gen > 0xFF) {
+            Arrays.fill(table, 0L);
+            gen = 1;
+        }
+        nodes = 0;
+        outOfBudget = false;
+        depthCut = false;
+        pruned = false;
+        deadline = t0 + timeLimitNanos;
+        return dfs(0);
+    }
+
+    private boolean dfs(int depth) {
+        if (isWon()) {
+            solutionLength = depth;
+            return true;
+        }
+        if (++nodes > nodeLimit || ((nodes & 1023) == 0 && outOfTime())) {
+            outOfBudget = true;
+            return false;
+        }
+        if (depth >= MAX_DEPTH) {
+            depthCut = true;
+            return false;
+        }
+        if (!visit(hash())) return false;
+
+        // Safe foundation play: no need to try anything else here
+        int safe = safeMove();
+        if (safe >= 0) {
+            int m = apply(safe);
+            path[depth] = m;
+            if (dfs(depth + 1)) return true;
+            undo(m);
+            return false;
+        }
+
+        int[] moves = moveBuf[depth];
+        int n = generate(moves);
+        for (int i = 0; i < n; i++) {
+            int m = apply(moves[i]);
+            path[depth] = m;
+            if (dfs(depth + 1)) return true;
+            undo(m);
+            if (outOfBudget) return false;
+        }
+        return false;
+    }
+
+    private boolean outOfTime() {
+        return System.nanoTime() > deadline || (stop != null && stop.getAsBoolean());
+    }
+
+    private boolean isWon() {
+        return found[0] == 13 && found[1] == 13 && found[2] == 13 && found[3] == 13;
+    }
+
+    // Ranks 1-2 always, otherwise once both opposite-color foundations reach rank - 1
+    private int safeMove() {
+        for (int col = 0; col < COLS; col++) {
+            if (len[col] == 0) continue;
+            int c = tab[col * STRIDE + len[col] - 1];
+            if (isSafe(c)) return enc(T2F, col, suit(c), 1);
+        }
+        if (wastePos > 0) {
+            int c = talon[wastePos - 1];
+            if (isSafe(c)) return enc(W2F, 0, suit(c), 1);
+        }
+        return -1;
+    }
+
+    private boolean isSafe(int c) {
+        int r = rank(c), s = suit(c);
+        if (r != found[s] + 1) return false;
+        if (r <= 2) return true;
+        return isRed(s) ? found[0] >= r - 1 && found[3] >= r - 1
+                        : found[1] >= r - 1 && found[2] >= r - 1;
+    }
+
+    private int generate(int[] out) {
+        int n = 0;
+
+        // To foundation
+        for (int col = 0; col < COLS; col++) {
+            if (len[col] == 0) continue;
+            int c = tab[col * STRIDE + len[col] - 1];
+            if (rank(c) == found[suit(c)] + 1) out[n++] = enc(T2F, col, suit(c), 1);
+        }
+        int wasteTop = wastePos > 0 ? talon[wastePos - 1] : -1;
+        if (wasteTop >= 0 && rank(wasteTop) == found[suit(wasteTop)] + 1) {
+            out[n++] = enc(W2F, 0, suit(wasteTop), 1);
+        }
+
+        int firstEmpty = -1;
+        for (int col = 0; col < COLS; col++) if (len[col] == 0) { firstEmpty = col; break; }
+
+        // Tableau to tableau: whole face-up runs first (they turn a card over)
+        for (int pass = 0; pass < 2; pass++) {
+            for (int from = 0; from < COLS; from++) {
+                if (len[from] == 0) continue;
+                boolean reveals = down[from] > 0;
+                if ((pass == 0) != reveals) continue;
+                int base = from * STRIDE;
+                int head = tab[base + down[from]];
+
+                for (int to = 0; to < COLS; to++) {
+                    if (to == from) continue;
+                    if (len[to] == 0) {
+                        // A king run only moves to an empty column if it uncovers something
+                        if (to == firstEmpty && reveals && rank(head) == 13) {
+                            out[n++] = enc(T2T, from, to, len[from] - down[from]);
+                        }
+                        continue;
+                    }
+                    int dest = tab[to * STRIDE + len[to] - 1];
+                    int need = rank(dest) - 1;
+                    int i = down[from] + rank(head) - need;
+                    if (i < down[from] || i >= len[from]) continue;
+                    int c = tab[base + i];
+                    if (rank(c) != need || isRed(suit(c)) == isRed(suit(dest))) continue;
+
+                    // Split a run only to free the card underneath for the foundation
+                    // (not a proof: other splits can matter, so remember the skip)
+                    if (i > down[from]) {
+                        int under = tab[base + i - 1];
+                        if (rank(under) != found[suit(under)] + 1) {
+                            pruned = true;
+                            continue;
+                        }
+                    }
+                    out[n++] = enc(T2T, from, to, len[from] - i);
+                }
+            }
+
+            // Waste to tableau between the two passes
+            if (pass == 0 && wasteTop >= 0) {
+                for (int to = 0; to < COLS; to++) {
+                    if (len[to] == 0) {
+                        if (to == firstEmpty && rank(wasteTop) == 13) out[n++] = enc(W2T, 0, to, 1);
+                        continue;
+                    }
+                    int dest = tab[to * STRIDE + len[to] - 1];
+                    if (rank(dest) == rank(wasteTop) + 1 && isRed(suit(dest)) != isRed(suit(wasteTop))) {
+                        out[n++] = enc(W2T, 0, to, 1);
+                    }
+                }
+            }
+        }
+
+        // Foundation back down to tableau
+        for (int s = 0; s < 4; s++) {
+            int r = found[s];
+            if (r < 3 || r == 13) continue;
+            for (int to = 0; to < COLS; to++) {
+                if (len[to] == 0) continue;
+                int dest = tab[to * STRIDE + len[to] - 1];
+                if (rank(dest) == r + 1 && isRed(suit(dest)) != isRed(s)) out[n++] = enc(F2T, s, to, 1);
+            }
+        }
+
+        // Stock
+        if (wastePos < talonLen) out[n++] = enc(DRAW, 0, 0, 0);
+        else if (wastePos > 0 && talonLen > drawCount) out[n++] = enc(RECYCLE, 0, 0, 0);
+
+        return n;
+    }
+
+    // ---------- make / unmake ----------
+
+    private int apply(int m) {
+        int type = m & 7, a = (m >>> 3) & 15, b = (m >>> 7) & 15, count = (m >>> 11) & 31;
+        switch (type) {
+            case T2F -> {
+                found[b]++;
+                len[a]--;
+                m |= reveal(a);
+            }
+            case W2F -> {
+                found[b]++;
+                removeWasteTop();
+            }
+            case T2T -> {
+                System.arraycopy(tab, a * STRIDE + len[a] - count, tab, b * STRIDE + len[b], count);
+                len[a] -= count;
+                len[b] += count;
+                m |= reveal(a);
+            }
+            case W2T -> {
+                tab[b * STRIDE + len[b]++] = talon[wastePos - 1];
+                removeWasteTop();
+            }
+            case F2T -> {
+                tab[b * STRIDE + len[b]++] = (byte) (found[a] | a << 4);
+                found[a]--;
+            }
+            case DRAW -> {
+                m |= wastePos << 17;
+                wastePos = Math.min(talonLen, wastePos + drawCount);
+            }
+            case RECYCLE -> {
+                m |= wastePos << 17;
+                wastePos = 0;
+            }
+            default -> throw new IllegalStateException("bad move " + m);
+        }
+        return m;
+    }
+
+    private void undo(int m) {
+        int type = m & 7, a = (m >>> 3) & 15, b = (m >>> 7) & 15, count = (m >>> 11) & 31;
+        switch (type) {
+            case T2F -> {
+                if ((m & REVEAL) != 0) down[a]++;
+                tab[a * STRIDE + len[a]++] = (byte) (found[b] | b << 4);
+                found[b]--;
+            }
+            case W2F -> {
+                insertWasteTop((byte) (found[b] | b << 4));
+                found[b]--;
+            }
+            case T2T -> {
+                if ((m & REVEAL) != 0) down[a]++;
+                System.arraycopy(tab, b * STRIDE + len[b] - count, tab, a * STRIDE + len[a], count);
+                len[b] -= count;
+                len[a] += count;
+            }
+            case W2T -> insertWasteTop(tab[b * STRIDE + --len[b]]);
+            case F2T -> {
+                len[b]--;
+                found[a]++;
+            }
+            case DRAW, RECYCLE -> wastePos = (m >>> 17) & 31;
+            default -> throw new IllegalStateException("bad move " + m);
+        }
+    }
+
+    // Turn the new top card face up if the column is all face-down
+    private int reveal(int col) {
+        if (len[col] > 0 && down[col] == len[col]) {
+            down[col]--;
+            return REVEAL;
+        }
+        return 0;
+    }
+
+    private void removeWasteTop() {
+        System.arraycopy(talon, wastePos, talon, wastePos - 1, talonLen - wastePos);
+        talonLen--;
+        wastePos--;
+    }
+
+    private void insertWasteTop(byte c) {
+        System.arraycopy(talon, wastePos, talon, wastePos + 1, talonLen - wastePos);
+        talon[wastePos] = c;
+        talonLen++;
+        wastePos++;
+    }
+
+    // ---------- transposition table ----------
+
+    // Columns are hashed independently and summed, so
+    // positions that only differ by column order share a key
+    private long hash() {
+        long h = 0;
+        for (int col = 0; col < COLS; col++) {
+            long ch = 0x9E3779B97F4A7C15L * (down[col] + 1);
+            for (int i = col * STRIDE, e = i + len[col]; i < e; i++) ch = (ch ^ tab[i]) * 0x100000001B3L;
+            h += mix(ch);
+        }
+        h ^= mix(found[0] | found[1] << 4 | found[2] << 8 | found[3] << 12 | 0x10000L);
+        long th = wastePos;
+        for (int i = 0; i < talonLen; i++) th = (th ^ talon[i]) * 0x100000001B3L;
+        return h ^ mix(th + 0x632BE59BD9B4E019L);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Marks the key as seen; false if it already was
+    private boolean visit(long key) {
+        long tag = (key & ~0xFFL) | gen;
+        int idx = (int) (key >>> 32) & tableMask;
+        for (int p = 0; p < 4; p++) {
+            int slot = (idx + p) & tableMask;
+            long e = table[slot];
+            if (e == tag) return false;
+            if ((e & 0xFF) != gen) {
+                table[slot] = tag;
+                return true;
+            }
+        }
+        table[(idx + (int) (key & 3)) & tableMask] = tag;
+        return true;
+    }
+
+    // ---------- conversion ----------
+
+    private void capture(KlondikeGame game) {
+        for (int col = 0; col < COLS; col++) {
+            Pile pile = game.tableaux.get(col);
+            List<Card> cards = pile.getCards();
+            if (cards.size() > STRIDE) throw new IllegalStateException("column too long");
+            int d = pile.faceDownCount();
+            for (int i = 0; i < cards.size(); i++) tab[col * STRIDE + i] = code(cards.get(i));
+            len[col] = cards.size();
+            down[col] = (d == cards.size() && d > 0) ? d - 1 : d;
+        }
+
+        Arrays.fill(found, 0);
+        for (Pile f : game.foundations) {
+            Card top = f.getTopCard();
+            if (top != null) found[top.getSuit().ordinal()] = top.getRank();
+        }
+
+        // Waste bottom to top, then stock in draw order
+        talonLen = 0;
+        for (Card c : game.waste.getCards()) talon[talonLen++] = code(c);
+        wastePos = talonLen;
+        List<Card> stock = game.stock.getCards();
+        for (int i = stock.size() - 1; i >= 0; i--) talon[talonLen++] = code(stock.get(i));
+    }
+
+    private SolverMove toSolverMove(int m) {
+        int type = m & 7, a = (m >>> 3) & 15, b = (m >>> 7) & 15, count = (m >>> 11) & 31;
+        return switch (type) {
+            case T2F -> new SolverMove(SolverMove.Type.TABLEAU_TO_FOUNDATION, a, b, 1);
+            case W2F -> new SolverMove(SolverMove.Type.WASTE_TO_FOUNDATION, -1, b, 1);
+            case T2T -> new SolverMove(SolverMove.Type.TABLEAU_TO_TABLEAU, a, b, count);
+            case W2T -> new SolverMove(SolverMove.Type.WASTE_TO_TABLEAU, -1, b, 1);
+            case F2T -> new SolverMove(SolverMove.Type.FOUNDATION_TO_TABLEAU, a, b, 1);
+            case DRAW -> new SolverMove(SolverMove.Type.DRAW, -1, -1, drawCount);
+            default -> new SolverMove(SolverMove.Type.RECYCLE, -1, -1, 0);
+        };
+    }
+
+    private static int enc(int type, int a, int b, int count) {
+        return type | a << 3 | b << 7 | count << 11;
+    }
+
+    private static byte code(Card c) { return (byte) (c.getRank() | c.getSuit().ordinal() << 4); }
+    private static int rank(int c) { return c & 15; }
+    private static int suit(int c) { return (c >>> 4) & 3; }
+
+    // HEARTS = 1, DIAMONDS = 2
+    private static boolean isRed(int suit) { return suit == 1 || suit == 2; }
+
+    // Checker for WinnableCatalogue: solves each deal from the start under a time budget
+    // UNSOLVABLE only comes from a search that skipped nothing, so those
+    // deals are unwinnable for good
+    public static WinnableCatalogue.Checker checker(int drawCount, long budgetMillis) {
+        KlondikeSolver solver = new KlondikeSolver(drawCount, DEFAULT_NODE_LIMIT, budgetMillis, DEFAULT_TABLE_BITS);
+        KlondikeGame game = new KlondikeGame();
+        return deal -> {
+            game.newGame(deal);
+            return switch (solver.solve(game).getStatus()) {
+                case SOLVED -> WinnableCatalogue.Verdict.WINNABLE;
+                case UNSOLVABLE -> WinnableCatalogue.Verdict.UNWINNABLE;
+                case UNKNOWN -> WinnableCatalogue.Verdict.UNKNOWN;
+            };
+        };
+    }
+
+    // Usage: KlondikeSolver [firstSeed] [count] [drawCount]
+    public static void main(String[] args) {
+        long first = args.length > 0 ? Long.parseLong(args[0]) : 0;
+        long count = args.length > 1 ? Long.parseLong(args[1]) : 100;
+        int draw = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_DRAW_COUNT;
+
+        KlondikeSolver solver = new KlondikeSolver(draw, DEFAULT_NODE_LIMIT, DEFAULT_TIME_LIMIT_MILLIS, DEFAULT_TABLE_BITS);
+        long solved = 0, unsolvable = 0, nodes = 0, nanos = 0;
+        for (long seed = first; seed < first + count; seed++) {
+            SolverResult r = solver.solve(seed);
+            if (r.getStatus() == SolverResult.Status.SOLVED) solved++;
+            if (r.getStatus() == SolverResult.Status.UNSOLVABLE) unsolvable++;
+            nodes += r.getNodes();
+            nanos += r.getElapsedNanos();
+        }
+        System.out.printf("%d seeds: %d solved, %d unsolvable, %d unknown, %.0f nodes/sec%n",
+                count, solved, unsolvable, count - solved - unsolvable, nanos == 0 ? 0.0 : nodes * 1e9 / nanos);
+    }
+}
@@ -0,0 +1,59 @@
+package solitaire.klondike.solver;
+
+//*********************************************
+// Klondike Solitaire – Prototype 2
+// File: SolverMove.java
+//
+// Author: Jenascia Drew
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// One step of a solver line. Tableau columns are 0-6.
+// For foundation moves the foundation side holds the
+// suit ordinal (the replayer finds the matching pile)
+//*********************************************
+
+public class SolverMove {
+
+    public enum Type {
+        TABLEAU_TO_FOUNDATION,   // from = column, to = suit
+        WASTE_TO_FOUNDATION,     // to = suit
+        TABLEAU_TO_TABLEAU,      // from, to = columns, count = cards
+        WASTE_TO_TABLEAU,        // to = column
+        FOUNDATION_TO_TABLEAU,   // from = suit, to = column
+        DRAW,                    // stock to waste
+        RECYCLE                  // waste back to stock
+    }
+
+    private final Type type;
+    private final int from;
+    private final int to;
+    private final int count;
+
+    public SolverMove(Type type, int from, int to, int count) {
+        this.type = type;
+        this.from = from;
+        this.to = to;
+        this.count = count;
+    }
+
+    // ---- Accessors ----
+    public Type getType() { return type; }
+    public int getFrom() { return from; }
+    public int getTo() { return to; }
+    public int getCount() { return count; }
+
+    @Override
+    public String toString() {
+        return switch (type) {
+            case TABLEAU_TO_FOUNDATION -> "T" + (from + 1) + " -> foundation";
+            case WASTE_TO_FOUNDATION -> "waste -> foundation";
+            case TABLEAU_TO_TABLEAU -> count + " from T" + (from + 1) + " -> T" + (to + 1);
+            case WASTE_TO_TABLEAU -> "waste -> T" + (to + 1);
+            case FOUNDATION_TO_TABLEAU -> "foundation -> T" + (to + 1);
+            case DRAW -> "draw";
+            case RECYCLE -> "recycle waste";
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package solitaire.klondike.solver;
+
+//*********************************************
+// Klondike Solitaire – Prototype 2
+// File: SolverResult.java
+//
+// Author: Jenascia Drew
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Outcome of one solver run: verdict, winning line
+// (if any) and search statistics
+//*********************************************
+
+import java.util.List;
+
+public class SolverResult {
+
+    public enum Status {
+        SOLVED,       // winning line found
+        UNSOLVABLE,   // no win, and nothing that could matter was skipped: a proof
+        UNKNOWN       // budget or depth limit hit, or pruned moves left untried
+    }
+
+    private final Status status;
+    private final List<SolverMove> moves;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    public SolverResult(Status status, List<SolverMove> moves, long nodes, long elapsedNanos) {
+        this.status = status;
+        this.moves = moves;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // ---- Accessors ----
+    public Status getStatus() { return status; }
+    public List<SolverMove> getMoves() { return moves; }
+    public long getNodes() { return nodes; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s in %d moves, %d nodes, %.1f ms, %.0f nodes/sec",
+                status, moves.size(), nodes, elapsedNanos / 1e6, getNodesPerSecond());
+    }
+}
@@ -18,6 +18,7 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.layout.*;
+import solitaire.core.ThemeManager;
 
 public class Basics {
 
@@ -62,15 +63,9 @@ public class Basics {
         StackPane c = new StackPane();
         c.setMinSize(64, 86);
         c.setMaxSize(64, 86);
-        c.setStyle("""
-            -fx-background-color: white;
-            -fx-border-color: #bbb;
-            -fx-background-radius: 6;
-            -fx-border-radius: 6;
-            -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.15), 6, 0, 0, 2);
-        """);
+        c.getStyleClass().add("card");
         Label lbl = new Label(text);
-        lbl.setStyle("-fx-font-size: 15px; -fx-font-weight: 700;");
+        ThemeManager.styleCardText(lbl, text.contains("♥") || text.contains("♦"));
         c.getChildren().add(lbl);
         return c;
     }
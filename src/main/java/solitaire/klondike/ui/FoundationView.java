@@ -19,11 +19,13 @@ import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import solitaire.core.ThemeManager;
 import solitaire.klondike.model.Pile;
 
 public class FoundationView extends VBox {
     private final Pile pile;
     private final String label;
+    private int shownSize = -1;
 
     public FoundationView(Pile pile, String label) {
         this.pile = pile;
@@ -40,6 +42,11 @@ public class FoundationView extends VBox {
     }
 
     public void refresh() {
+        // Only empty / not empty is shown, so skip if the count is the same
+        int size = pile.getCards().size();
+        if (size == shownSize) return;
+        shownSize = size;
+
         getChildren().clear();
 
         // Small label above the pile
@@ -49,29 +56,23 @@ public class FoundationView extends VBox {
 
         if (pile.getCards().isEmpty()) {
             StackPane slot = makeCardPlaceholder(" ");
-            slot.setStyle("""
-                -fx-background-color: linear-gradient(#f7f7f7, #f0f0f0);
-                -fx-border-color: #cfcfcf;
-                -fx-background-radius: 6; -fx-border-radius: 6;
-                -fx-opacity: 0.9;
-            """);
+            slot.getStyleClass().add("card-slot");
             getChildren().add(slot);
         } else {
             // Mark completed foundation
             StackPane card = makeCardPlaceholder("✓");
-            ((Label) card.getChildren().get(0)).setStyle(
-                    "-fx-font-weight: 700; -fx-font-size: 18px; -fx-text-fill: #22863a;"
-            );
+            ThemeManager.styleCardFace(card);
+            card.getStyleClass().add("foundation-done");
             getChildren().add(card);
         }
     }
 
-    // Create a simple card-like shape
+    // Create a simple card-like shape; the caller picks its style class
     private StackPane makeCardPlaceholder(String text) {
         StackPane pane = new StackPane();
         pane.setPrefSize(80, 110);
-        pane.setStyle("-fx-border-color: #999; -fx-background-color: white; -fx-border-radius: 6;");
         Label lbl = new Label(text);
+        ThemeManager.styleCardText(lbl, false);
         pane.getChildren().add(lbl);
         return pane;
     }
@@ -20,8 +20,12 @@ import javafx.geometry.Insets;
 import javafx.scene.layout.*;
 import javafx.scene.control.Label;
 import javafx.scene.Node;
+import solitaire.core.CanvasBoard;
 import solitaire.core.ThemeManager;
+import solitaire.core.Zobrist;
 import solitaire.klondike.engine.KlondikeGame;
+import solitaire.klondike.model.Card;
+import solitaire.klondike.model.Pile;
 
 import java.util.List;
 
@@ -86,6 +90,37 @@ public class KlondikeBoardFactory {
 
     }
 
+    // ---------- CANVAS BACKEND ----------
+    // Same board drawn on one CanvasBoard
+    // Pile order matches KlondikeGame.pileAt: tableau, foundations, stock, waste
+    public static CanvasBoard buildCanvas(KlondikeGame game) {
+        CanvasBoard.Source source = new CanvasBoard.Source() {
+            @Override public int pileCount() { return KlondikeGame.WASTE_INDEX + 1; }
+            @Override public int size(int pile) { return game.pileAt(pile).getCards().size(); }
+            @Override public int card(int pile, int index) {
+                Pile p = game.pileAt(pile);
+                Card c = p.getCards().get(index);
+                return Zobrist.code(c.getRank(), c.getSuit().ordinal(), p.isFaceUp(index));
+            }
+        };
+
+        // Stock and waste over the first two columns, foundations over the last four
+        double step = 90 + 18;
+        double width = 2 * 32 + KlondikeGame.TABLEAU_COUNT * step - 18;
+        CanvasBoard board = new CanvasBoard(source, PileView.atlas(), width, 650);
+        for (int col = 0; col < KlondikeGame.TABLEAU_COUNT; col++) {
+            board.addPile(32 + 13 + col * step, 140, true);
+        }
+        for (int i = 0; i < KlondikeGame.FOUNDATION_COUNT; i++) {
+            board.addPile(32 + 13 + (KlondikeGame.TABLEAU_COUNT - KlondikeGame.FOUNDATION_COUNT + i) * step, 20, false);
+        }
+        board.addPile(32 + 13, 20, false);
+        board.addPile(32 + 13 + step, 20, false);
+
+        board.redraw();
+        return board;
+    }
+
     // Placeholder
     private static Node makePlaceholder(String text) {
         StackPane box = new StackPane();
@@ -13,22 +13,31 @@ package solitaire.klondike.ui;
 // Bridge between the Klondike game engine and the UI.
 // Builds the board, starts a new game, and refreshes
 // pile/foundation views
+// Hints come from the solver, run on a copy of the game
+// on the hint thread and shown through GameEvents.onHint
 //*********************************************
 
+import javafx.application.Platform;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
-import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import solitaire.core.CanvasBoard;
+import solitaire.core.DealId;
+import solitaire.core.GameEvents;
+import solitaire.core.HintService;
+import solitaire.core.PulseFlusher;
 import solitaire.klondike.engine.KlondikeGame;
+import solitaire.klondike.solver.KlondikeSolver;
 
 public class KlondikeController {
 
     private final KlondikeGame game = new KlondikeGame();
+    private final GameEvents events;
 
     // views the factory will fill
     private final List<PileView> pileViews = new ArrayList<>();
@@ -36,6 +45,25 @@ public class KlondikeController {
 
     private StackPane boardRoot;
 
+    // Set -Dsolitaire.canvas=true to draw the board on one Canvas
+    private static final boolean USE_CANVAS = Boolean.getBoolean("solitaire.canvas");
+    private CanvasBoard canvas = null;
+
+    // Redraws the piles the engine marked dirty, at most once per frame
+    private final PulseFlusher flusher = new PulseFlusher(game::takeDirty, this::redrawPiles);
+
+    // Solver is made on first hint and only used on the hint thread
+    private final HintService hints = new HintService("klondike", Platform::runLater);
+    private KlondikeSolver hintSolver = null;
+
+    public KlondikeController() {
+        this(null);
+    }
+
+    public KlondikeController(GameEvents events) {
+        this.events = events;
+    }
+
     public Node createKlondikeBoard() {
         try {
             pileViews.clear();
@@ -45,7 +73,13 @@ public class KlondikeController {
             game.newGame();
 
             // Build the board
-            Pane board = KlondikeBoardFactory.build(game, pileViews, foundationViews);
+            Node board;
+            if (USE_CANVAS) {
+                canvas = KlondikeBoardFactory.buildCanvas(game);
+                board = canvas;
+            } else {
+                board = KlondikeBoardFactory.build(game, pileViews, foundationViews);
+            }
 
             boardRoot = new StackPane(board);
             boardRoot.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
@@ -68,9 +102,11 @@ public class KlondikeController {
     }
 
 
-    // Start a new game
-    public void onNewGame() {
-        game.newGame();
+    // Start a new game in the board already built
+    // The game keeps its Pile objects, so the views just refresh
+    public void onNewGame(DealId deal) {
+        stopHint();
+        game.newGame(deal);
         refreshAll();
     }
 
@@ -83,15 +119,49 @@ public class KlondikeController {
 
     public void onUndo() {
         // Undo
-        System.out.println("[Klondike] undo not implemented.");
+        stopHint();
+        if (game.undo()) flusher.request();
+    }
+
+    // Best move within the hint budget; a winning line replaces it if one is found
+    public void onHint() {
+        if (hintSolver == null) {
+            hintSolver = new KlondikeSolver(KlondikeSolver.DEFAULT_DRAW_COUNT, KlondikeSolver.DEFAULT_NODE_LIMIT,
+                    HintService.DEFAULT_IDLE_MILLIS, KlondikeSolver.DEFAULT_TABLE_BITS);
+        }
+        KlondikeSolver solver = hintSolver;
+        KlondikeGame position = game.copy();
+        hints.request((sink, stop) -> solver.hint(position, sink, stop), (move, text) -> {
+            if (events != null) events.onHint(text);
+        });
+    }
+
+    // The position is about to change: drop the search and its hint
+    public void stopHint() {
+        hints.cancel();
+        if (events != null) events.onHint(null);
     }
 
+    // Card images are baked per theme, so redraw the piles
+    public void onThemeChanged() {
+        pileViews.forEach(PileView::redraw);
+        if (canvas != null) canvas.refresh();
+    }
+
+    // Redraws everything now
     private void refreshAll() {
-        for (PileView pv : pileViews) {
-            pv.refresh();
+        game.takeDirty();
+        redrawPiles(KlondikeGame.ALL_PILES);
+    }
+
+    // Bits are KlondikeGame.pileAt indexes: tableau, foundations, stock, waste
+    private void redrawPiles(int dirty) {
+        if (canvas != null) canvas.refresh();
+        for (int i = 0; i < pileViews.size(); i++) {
+            if ((dirty & 1 << i) != 0) pileViews.get(i).refresh();
         }
-        for (FoundationView fv : foundationViews) {
-            fv.refresh();
+        for (int f = 0; f < foundationViews.size(); f++) {
+            if ((dirty & 1 << (KlondikeGame.FOUNDATION_BASE + f)) != 0) foundationViews.get(f).refresh();
         }
     }
 }
\ No newline at end of file
@@ -24,12 +24,25 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import solitaire.klondike.model.Card;
 import solitaire.klondike.model.Pile;
+import solitaire.core.CardAtlas;
 import solitaire.core.ThemeManager;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class PileView extends VBox {
     private final Pile pile;
     private final String label;
 
+    // Indexed by Suit ordinal
+    private static final String[] SUIT_SYMBOLS = { "♠", "♥", "♦", "♣" };
+    private static final CardAtlas ATLAS = new CardAtlas(PileView::buildCard, 64, 86);
+
+    // What each card node currently shows, index for index
+    private final List<Card> drawn = new ArrayList<>();
+    private final List<Boolean> drawnFaceUp = new ArrayList<>();
+    private final StackPane emptySlot = Basics.card(" ");
+
     public PileView(Pile pile, String label) {
         this.pile = pile;
         this.label = label;
@@ -46,36 +59,73 @@ public class PileView extends VBox {
     }
 
     // Refreshes based on current state of cards
+    // Existing card nodes are reconciled with the pile: only
+    // nodes from the first changed card upward are rebuilt
     public void refresh() {
-        getChildren().clear();
+        if (getChildren().isEmpty()) {
+            Label title = new Label(label);
+            title.setStyle("-fx-text-fill: #444; -fx-font-size: 11px;");
+            getChildren().add(title);
+        }
 
-        Label title = new Label(label);
-        title.setStyle("-fx-text-fill: #444; -fx-font-size: 11px;");
-        getChildren().add(title);
+        List<Card> cards = pile.getCards();
+
+        // Length of the unchanged bottom part
+        int keep = 0;
+        int limit = Math.min(cards.size(), drawn.size());
+        while (keep < limit
+                && cards.get(keep) == drawn.get(keep)
+                && pile.isFaceUp(keep) == drawnFaceUp.get(keep)) {
+            keep++;
+        }
+
+        // Drop stale nodes (and the empty slot); child 0 is the title
+        getChildren().remove(1 + keep, getChildren().size());
+        drawn.subList(keep, drawn.size()).clear();
+        drawnFaceUp.subList(keep, drawnFaceUp.size()).clear();
 
         // Draw cards in order
-        for (int i = 0; i < pile.getCards().size(); i++) {
-            Card c = pile.getCards().get(i);
-            StackPane cardNode = cardNodeFor(c);
+        for (int i = keep; i < cards.size(); i++) {
+            Card c = cards.get(i);
+            StackPane cardNode = cardNodeFor(c, pile.isFaceUp(i));
             cardNode.setTranslateY(i * -10);
             getChildren().add(cardNode);
+            drawn.add(c);
+            drawnFaceUp.add(pile.isFaceUp(i));
         }
 
         // If empty, show slot
-        if (pile.getCards().isEmpty()) {
-            StackPane slot = Basics.card(" ");
-            getChildren().add(slot);
+        if (cards.isEmpty()) {
+            getChildren().add(emptySlot);
         }
     }
 
-    // Front or back of card
-    private StackPane cardNodeFor(Card c) {
+    // Throws away every node and draws the pile again
+    public void redraw() {
+        getChildren().clear();
+        drawn.clear();
+        drawnFaceUp.clear();
+        refresh();
+    }
+
+    // Shared with the canvas board so both draw the same card images
+    static CardAtlas atlas() {
+        return ATLAS;
+    }
+
+    // Front or back of card, as a cached atlas image
+    private StackPane cardNodeFor(Card c, boolean faceUp) {
+        return ATLAS.node(c.getRank(), c.getSuit().ordinal(), faceUp);
+    }
+
+    // Renders one card for the atlas
+    private static StackPane buildCard(int rank, int suit, boolean faceUp) {
         // this can be as simple as:
-        if (!c.isFaceUp()) {
+        if (!faceUp) {
             StackPane back = Basics.card("🂠");
             return back;
         }
-        String text = rankToText(c.getRank()) + suitToSymbol(c);
+        String text = rankToText(rank) + SUIT_SYMBOLS[suit];
         StackPane face = Basics.card(text);
 
         // Theme face styling
@@ -90,7 +140,7 @@ public class PileView extends VBox {
         return face;
     }
 
-    private String rankToText(int r) {
+    private static String rankToText(int r) {
         return switch (r) {
             case 1 -> "A";
             case 11 -> "J";
@@ -99,13 +149,4 @@ public class PileView extends VBox {
             default -> String.valueOf(r);
         };
     }
-
-    private String suitToSymbol(Card c) {
-        return switch (c.getSuit()) {
-            case SPADES -> "♠";
-            case HEARTS -> "♥";
-            case DIAMONDS -> "♦";
-            case CLUBS -> "♣";
-        };
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,319 @@
+//*********************************************
+// Pyramid Solitaire – Prototype 2
+// File: PyramidGame.java
+//
+// Author: Danahryien Dendy
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Pyramid game engine, no JavaFX needed
+// The deal is fixed at newGame; after that the whole position
+// is a single long:
+//   bits 0-27   pyramid slots removed (slot = row*(row+1)/2 + col)
+//   bits 28-51  talon cards removed (talon index 0 is drawn first)
+//   bits 52-56  talon position: cards before it are in the waste
+//   bits 57-62  recycles so far
+// Exposure and pairing are mask tests against precomputed tables
+//
+//*********************************************
+
+package solitaire.pyramid.engine;
+
+import java.util.Arrays;
+
+import solitaire.core.DealId;
+import solitaire.core.Shuffler;
+
+public class PyramidGame {
+    public static final int ROWS = 7;
+    public static final int SLOTS = 28;
+    public static final int TALON = 24;
+    public static final int DECK = 52;
+
+    // Scoring (same values the board has always used)
+    public static final int SCORE_KING = 100;
+    public static final int SCORE_PAIR = 150;
+    public static final int SCORE_WASTE_KING = 80;
+    public static final int SCORE_WASTE_PAIR = 120;
+
+    // ----- state layout -----
+    public static final long SLOTS_MASK = (1L << SLOTS) - 1;
+    public static final int TALON_SHIFT = SLOTS;
+    public static final long TALON_MASK = (1L << TALON) - 1;
+    public static final int POS_SHIFT = TALON_SHIFT + TALON;
+    public static final int RECYCLE_SHIFT = POS_SHIFT + 5;
+    public static final int MAX_RECYCLES = 63;
+
+    // ----- precomputed tables -----
+    public static final int[] ROW = new int[SLOTS];
+    public static final int[] COL = new int[SLOTS];
+
+    // COVER[s]: the two slots resting on s (0 on the bottom row)
+    public static final int[] COVER = new int[SLOTS];
+
+    // PAIR13[id]: bit set of card ids that sum to 13 with card id (0 for kings)
+    public static final long[] PAIR13 = new long[DECK];
+
+    static {
+        for (int r = 0, s = 0; r < ROWS; r++) {
+            for (int c = 0; c <= r; c++, s++) {
+                ROW[s] = r;
+                COL[s] = c;
+                if (r + 1 < ROWS) COVER[s] = (1 << slotIndex(r + 1, c)) | (1 << slotIndex(r + 1, c + 1));
+            }
+        }
+        for (int a = 0; a < DECK; a++) {
+            for (int b = 0; b < DECK; b++) {
+                if (rankOf(a) + rankOf(b) == 13) PAIR13[a] |= 1L << b;
+            }
+        }
+    }
+
+    // ----- moves -----
+    // Encoded as ints: type bits 0-2, slot a bits 3-7, slot b bits 8-12
+    public static final int KING = 0;          // remove king at a
+    public static final int PAIR = 1;          // remove a and b
+    public static final int WASTE_KING = 2;    // remove king on the waste
+    public static final int WASTE_PAIR = 3;    // remove a with the waste card
+    public static final int DRAW = 4;          // stock to waste
+    public static final int RECYCLE = 5;       // waste back to stock
+
+    // Upper bound for generateMoves: every exposed pair plus singles
+    public static final int MAX_MOVES = 64;
+
+    public static int encodeMove(int type, int a, int b) { return type | a << 3 | b << 8; }
+    public static int moveType(int move) { return move & 0x07; }
+    public static int moveA(int move) { return (move >>> 3) & 0x1F; }
+    public static int moveB(int move) { return (move >>> 8) & 0x1F; }
+
+    // ----- deal -----
+    // Card ids: suit * 13 + (rank - 1), suits CLUBS, DIAMONDS, HEARTS, SPADES
+    private final byte[] slotCard = new byte[SLOTS];
+    private final byte[] talonCard = new byte[TALON];
+
+    // Shuffle buffer, reused by every newGame
+    private final byte[] deck = new byte[DECK];
+    private final Shuffler shuffler = new Shuffler();
+    private DealId dealId;
+
+    // Slots holding each rank, for pairing against the waste
+    private final int[] slotsOfRank = new int[14];
+
+    private long state;
+    private int moveCount;
+    private int score;
+
+    // Undo history: previous state, move count and score per move
+    private long[] undoState = new long[64];
+    private int[] undoScore = new int[64];
+    private int undoSize;
+
+    public static int rankOf(int id) { return id % 13 + 1; }
+    public static int suitOf(int id) { return id / 13; }
+    public static int slotIndex(int row, int col) { return row * (row + 1) / 2 + col; }
+
+    public void newGame() { newGame(DealId.random()); }
+
+    // Numbered deal; the same number always deals the same layout
+    public void newGame(DealId deal) {
+        newGame(deal.seed());
+        dealId = deal;
+    }
+
+    // Number of the current deal, null if it was started from a raw seed
+    public DealId getDealId() { return dealId; }
+
+    // Same shuffle as the board always used: ordered ids 0-51, shuffled as Collections.shuffle would
+    // Slots take deck[0..27] row by row, the stock is drawn from the end of the deck
+    public void newGame(long seed) {
+        dealId = null;
+        Shuffler.identity(deck, DECK);
+        shuffler.shuffle(deck, DECK, seed);
+
+        for (int s = 0; s < SLOTS; s++) slotCard[s] = deck[s];
+        for (int i = 0; i < TALON; i++) talonCard[i] = deck[DECK - 1 - i];
+
+        Arrays.fill(slotsOfRank, 0);
+        for (int s = 0; s < SLOTS; s++) slotsOfRank[rankOf(slotCard[s])] |= 1 << s;
+
+        state = 0;
+        moveCount = 0;
+        score = 0;
+        undoSize = 0;
+    }
+
+    // ----- read access -----
+
+    public int slotCard(int slot) { return slotCard[slot]; }
+    public int talonCard(int i) { return talonCard[i]; }
+
+    public long getState() { return state; }
+    public int getMoveCount() { return moveCount; }
+    public int getScore() { return score; }
+
+    public int removedMask() { return (int) (state & SLOTS_MASK); }
+    public boolean isRemoved(int slot) { return (removedMask() & (1 << slot)) != 0; }
+    public boolean isWin() { return removedMask() == SLOTS_MASK; }
+
+    public static int removedMask(long st) { return (int) (st & SLOTS_MASK); }
+    public static int talonGone(long st) { return (int) ((st >>> TALON_SHIFT) & TALON_MASK); }
+    public static int talonPos(long st) { return (int) ((st >>> POS_SHIFT) & 0x1F); }
+    public static int recycles(long st) { return (int) (st >>> RECYCLE_SHIFT) & 0x3F; }
+
+    // Slots still in the pyramid with nothing resting on them
+    public static int exposedMask(int removed) {
+        int out = 0;
+        for (int live = ~removed & (int) SLOTS_MASK; live != 0; live &= live - 1) {
+            int s = Integer.numberOfTrailingZeros(live);
+            if ((removed & COVER[s]) == COVER[s]) out |= 1 << s;
+        }
+        return out;
+    }
+
+    public int exposedMask() { return exposedMask(removedMask()); }
+    public boolean isExposed(int slot) { return (exposedMask() & (1 << slot)) != 0; }
+
+    // Talon indices currently in the waste / stock
+    public static int wasteMask(long st) { return ~talonGone(st) & ((1 << talonPos(st)) - 1); }
+    public static int stockMask(long st) { return ~talonGone(st) & (int) TALON_MASK & (-1 << talonPos(st)); }
+
+    /** Talon index of the waste top, or -1 */
+    public static int wasteTopIndex(long st) {
+        int w = wasteMask(st);
+        return w == 0 ? -1 : 31 - Integer.numberOfLeadingZeros(w);
+    }
+
+    /** Card id on top of the waste, or -1 */
+    public int wasteTop() {
+        int i = wasteTopIndex(state);
+        return i < 0 ? -1 : talonCard[i];
+    }
+
+    public int stockSize() { return Integer.bitCount(stockMask(state)); }
+    public int wasteSize() { return Integer.bitCount(wasteMask(state)); }
+
+    // ----- move generation -----
+
+    /** Lists every legal move for a position of this deal; returns how many were written */
+    public int generateMoves(long st, int[] out) {
+        int n = 0;
+        int exposed = exposedMask(removedMask(st));
+        int top = wasteTopIndex(st);
+        int wasteRank = top < 0 ? 0 : rankOf(talonCard[top]);
+
+        if (wasteRank == 13) out[n++] = encodeMove(WASTE_KING, 0, 0);
+        else if (wasteRank > 0) {
+            for (int m = exposed & slotsOfRank[13 - wasteRank]; m != 0; m &= m - 1) {
+                out[n++] = encodeMove(WASTE_PAIR, Integer.numberOfTrailingZeros(m), 0);
+            }
+        }
+
+        for (int m = exposed; m != 0; m &= m - 1) {
+            int a = Integer.numberOfTrailingZeros(m);
+            int rank = rankOf(slotCard[a]);
+            if (rank == 13) { out[n++] = encodeMove(KING, a, 0); continue; }
+            // Higher slots only, so each pair is listed once
+            for (int p = exposed & slotsOfRank[13 - rank] & (-2 << a); p != 0; p &= p - 1) {
+                out[n++] = encodeMove(PAIR, a, Integer.numberOfTrailingZeros(p));
+            }
+        }
+
+        if (stockMask(st) != 0) out[n++] = encodeMove(DRAW, 0, 0);
+        else if (wasteMask(st) != 0 && recycles(st) < MAX_RECYCLES) out[n++] = encodeMove(RECYCLE, 0, 0);
+        return n;
+    }
+
+    public int generateMoves(int[] out) { return generateMoves(state, out); }
+
+    /** State after a move, or -1 if the move is not legal there */
+    public long next(long st, int move) {
+        int removed = removedMask(st);
+        int a = moveA(move), b = moveB(move);
+        switch (moveType(move)) {
+            case KING -> {
+                if (!exposed(removed, a) || rankOf(slotCard[a]) != 13) return -1;
+                return st | 1L << a;
+            }
+            case PAIR -> {
+                if (a == b || !exposed(removed, a) || !exposed(removed, b)) return -1;
+                if ((PAIR13[slotCard[a]] >>> slotCard[b] & 1) == 0) return -1;
+                return st | 1L << a | 1L << b;
+            }
+            case WASTE_KING -> {
+                int top = wasteTopIndex(st);
+                if (top < 0 || rankOf(talonCard[top]) != 13) return -1;
+                return st | 1L << (TALON_SHIFT + top);
+            }
+            case WASTE_PAIR -> {
+                int top = wasteTopIndex(st);
+                if (top < 0 || !exposed(removed, a)) return -1;
+                if ((PAIR13[slotCard[a]] >>> talonCard[top] & 1) == 0) return -1;
+                return st | 1L << a | 1L << (TALON_SHIFT + top);
+            }
+            case DRAW -> {
+                int stock = stockMask(st);
+                if (stock == 0) return -1;
+                long pos = Integer.numberOfTrailingZeros(stock) + 1;
+                return (st & ~(0x1FL << POS_SHIFT)) | pos << POS_SHIFT;
+            }
+            case RECYCLE -> {
+                if (stockMask(st) != 0 || wasteMask(st) == 0 || recycles(st) >= MAX_RECYCLES) return -1;
+                return (st & ~(0x1FL << POS_SHIFT)) + (1L << RECYCLE_SHIFT);
+            }
+            default -> { return -1; }
+        }
+    }
+
+    private static boolean exposed(int removed, int slot) {
+        return (removed & (1 << slot)) == 0 && (removed & COVER[slot]) == COVER[slot];
+    }
+
+    // ----- play -----
+
+    /** Applies a move, recording it for undo; false (game unchanged) if it is not legal */
+    public boolean apply(int move) {
+        long st = next(state, move);
+        if (st < 0) return false;
+
+        if (undoSize == undoState.length) {
+            undoState = Arrays.copyOf(undoState, undoSize * 2);
+            undoScore = Arrays.copyOf(undoScore, undoSize * 2);
+        }
+        undoState[undoSize] = state;
+        undoScore[undoSize] = score;
+        undoSize++;
+
+        state = st;
+        moveCount++;
+        score += switch (moveType(move)) {
+            case KING -> SCORE_KING;
+            case PAIR -> SCORE_PAIR;
+            case WASTE_KING -> SCORE_WASTE_KING;
+            case WASTE_PAIR -> SCORE_WASTE_PAIR;
+            default -> 0;
+        };
+        return true;
+    }
+
+    public boolean removeKing(int slot) { return apply(encodeMove(KING, slot, 0)); }
+    public boolean removePair(int a, int b) { return apply(encodeMove(PAIR, a, b)); }
+    public boolean removeWasteKing() { return apply(encodeMove(WASTE_KING, 0, 0)); }
+    public boolean removeWithWaste(int slot) { return apply(encodeMove(WASTE_PAIR, slot, 0)); }
+
+    // Stock button: draw one, or turn the waste over when the stock is empty
+    public boolean drawOrRecycle() {
+        return apply(encodeMove(stockMask(state) != 0 ? DRAW : RECYCLE, 0, 0));
+    }
+
+    public boolean undo() {
+        if (undoSize == 0) return false;
+        undoSize--;
+        state = undoState[undoSize];
+        score = undoScore[undoSize];
+        moveCount = Math.max(0, moveCount - 1);
+        return true;
+    }
+
+    public boolean canUndo() { return undoSize > 0; }
+}
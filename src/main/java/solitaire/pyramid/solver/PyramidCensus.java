@@ -0,0 +1,156 @@
+//*********************************************
+// Pyramid Solitaire – Prototype 2
+// File: PyramidCensus.java
+//
+// Author: Danahryien Dendy
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Offline batch run of PyramidSolver over a range of numbered
+// deals (DealId)
+// Deals are split across a ForkJoinPool, one solver per
+// worker thread, and the answers go to a binary file:
+//   int   magic "PYRC"
+//   short format version
+//   byte  max recycles (-1 = unlimited)
+//   long  first deal number (version 1 and 2: raw shuffle seed)
+//   int   deal count
+//   short per deal: fewest moves, -1 unsolvable, -2 unknown,
+//                   -3 winnable but no length (version 2 on)
+// All values big-endian (DataOutputStream)
+//
+//*********************************************
+
+package solitaire.pyramid.solver;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import solitaire.core.DealId;
+import solitaire.pyramid.engine.PyramidGame;
+
+public class PyramidCensus {
+    public static final int MAGIC = 0x50595243;   // "PYRC"
+    public static final short VERSION = 3;
+    public static final int HEADER_BYTES = 4 + 2 + 1 + 8 + 4;
+
+    // Deals per leaf task; deals take up to a few seconds each
+    private static final int CHUNK = 16;
+
+    private final int parallelism;
+    private final int maxRecycles;
+    private final int seenBits;
+
+    public PyramidCensus(int parallelism, int maxRecycles, int seenBits) {
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism >= 1");
+        this.parallelism = parallelism;
+        this.maxRecycles = maxRecycles;
+        this.seenBits = seenBits;
+    }
+
+    /** Solves count deals from first on; result[i] belongs to first.plus(i) */
+    public short[] run(DealId first, int count) {
+        short[] out = new short[count];
+        ThreadLocal<PyramidSolver> solvers = ThreadLocal.withInitial(() -> new PyramidSolver(maxRecycles, seenBits));
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new Batch(first, 0, count, out, solvers));
+        } finally {
+            pool.shutdown();
+        }
+        return out;
+    }
+
+    // Splits the index range until it is small enough to solve in one go
+    @SuppressWarnings("serial")
+    private static class Batch extends RecursiveAction {
+        private final DealId first;
+        private final int lo, hi;
+        private final short[] out;
+        private final ThreadLocal<PyramidSolver> solvers;
+
+        Batch(DealId first, int lo, int hi, short[] out, ThreadLocal<PyramidSolver> solvers) {
+            this.first = first; this.lo = lo; this.hi = hi;
+            this.out = out; this.solvers = solvers;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= CHUNK) {
+                PyramidSolver solver = solvers.get();
+                PyramidGame game = new PyramidGame();
+                for (int i = lo; i < hi; i++) {
+                    game.newGame(first.plus(i));
+                    out[i] = (short) Math.min(Short.MAX_VALUE, solver.solve(game));
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new Batch(first, lo, mid, out, solvers),
+                      new Batch(first, mid, hi, out, solvers));
+        }
+    }
+
+    // ----- file format -----
+
+    public static void write(Path file, DealId first, int maxRecycles, short[] results) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeByte(maxRecycles);
+            out.writeLong(first.getNumber());
+            out.writeInt(results.length);
+            for (short r : results) out.writeShort(r);
+        }
+    }
+
+    /** Reads just the per-seed results; header fields are checked, not returned */
+    public static short[] read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException("Not a Pyramid census file: " + file);
+            short version = in.readShort();
+            if (version < 1 || version > VERSION) throw new IOException("Unsupported census version " + version);
+            in.readByte();
+            in.readLong();
+            short[] results = new short[in.readInt()];
+            for (int i = 0; i < results.length; i++) results[i] = in.readShort();
+            return results;
+        }
+    }
+
+    // Usage: PyramidCensus <outFile> [firstDeal] [count] [maxRecycles] [threads] [seenBits]
+    // firstDeal is a deal number, "1234" or "#1234"
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args.length > 0 ? args[0] : "pyramid-census.bin");
+        DealId first = args.length > 1 ? DealId.parse(args[1]) : DealId.of(0);
+        int count = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int recycles = args.length > 3 ? Integer.parseInt(args[3]) : PyramidSolver.UNLIMITED;
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        int bits = args.length > 5 ? Integer.parseInt(args[5]) : PyramidSolver.DEFAULT_SEEN_BITS;
+
+        long t0 = System.nanoTime();
+        short[] results = new PyramidCensus(threads, recycles, bits).run(first, count);
+        double secs = (System.nanoTime() - t0) / 1e9;
+        write(file, first, recycles, results);
+
+        int won = 0, noLength = 0, lost = 0, unknown = 0;
+        for (short r : results) {
+            if (r >= 0) won++;
+            else if (r == PyramidSolver.WINNABLE) { won++; noLength++; }
+            else if (r == PyramidSolver.UNSOLVABLE) lost++;
+            else unknown++;
+        }
+        System.out.printf("%d deals in %.1f s: %d winnable (%d without a length), %d unsolvable, %d unknown -> %s%n",
+                count, secs, won, noLength, lost, unknown, file);
+    }
+}
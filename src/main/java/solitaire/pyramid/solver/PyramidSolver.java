@@ -0,0 +1,212 @@
+//*********************************************
+// Pyramid Solitaire – Prototype 2
+// File: PyramidSolver.java
+//
+// Author: Danahryien Dendy
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Exact solver for one Pyramid deal
+// First a memoised depth-first check of whether the deal can
+// be won at all, on a smaller state: the removed slots plus
+// how many talon cards of each rank are left. With no recycle
+// limit any talon card can be drawn to the waste when needed
+// and suits never matter, so that check is exact; with a
+// limit it can only prove a deal lost
+// Then breadth-first over PyramidGame state longs (removed
+// mask, talon mask, stock position, recycles) for the length,
+// so the first win found is also the shortest one; states the
+// check proved lost are never queued
+// Every state is visited once through a fixed-size seen set;
+// if it fills up the answer is WINNABLE (length not found) or,
+// with a recycle limit, UNKNOWN
+// One instance is not thread-safe; use one per worker
+//
+//*********************************************
+
+package solitaire.pyramid.solver;
+
+import java.util.Arrays;
+
+import solitaire.core.LongHashSet;
+import solitaire.pyramid.engine.PyramidGame;
+
+public class PyramidSolver {
+    public static final int UNSOLVABLE = -1;
+    public static final int UNKNOWN = -2;
+    public static final int WINNABLE = -3;   // proven winnable, shortest length not found
+
+    // Recycle limit meaning "as many as the board allows"
+    public static final int UNLIMITED = -1;
+
+    public static final int DEFAULT_SEEN_BITS = 24;   // 128 MB, about 12M states
+
+    private static final int MEMO_BITS = 14;
+    private static final int RANK_BITS = 3;   // talon count per rank, at most 4
+
+    private static final long RECYCLE_BITS = 0x3FL << PyramidGame.RECYCLE_SHIFT;
+
+    private final int maxRecycles;
+    private final LongHashSet seen;
+
+    // Winnability memo on the small state, grown as needed
+    private LongHashSet won = new LongHashSet(MEMO_BITS);
+    private LongHashSet lost = new LongHashSet(MEMO_BITS);
+    private final int[] slotRank = new int[PyramidGame.SLOTS];
+    private final int[] talonRank = new int[PyramidGame.TALON];
+
+    // Current and next BFS layer
+    private long[] layer = new long[1024];
+    private long[] next = new long[1024];
+
+    private final int[] moveBuf = new int[PyramidGame.MAX_MOVES];
+    private long statesVisited;
+
+    public PyramidSolver() {
+        this(UNLIMITED, DEFAULT_SEEN_BITS);
+    }
+
+    /**
+     * @param maxRecycles how often the waste may be turned over, or UNLIMITED
+     * @param seenBits the seen set has 2^bits slots
+     */
+    public PyramidSolver(int maxRecycles, int seenBits) {
+        if (maxRecycles > PyramidGame.MAX_RECYCLES) throw new IllegalArgumentException("maxRecycles <= " + PyramidGame.MAX_RECYCLES);
+        this.maxRecycles = maxRecycles;
+        this.seen = new LongHashSet(seenBits);
+    }
+
+    /** Fewest moves that clear the pyramid from the game's current position, UNSOLVABLE, WINNABLE or UNKNOWN */
+    public int solve(PyramidGame game) {
+        return solve(game, game.getState());
+    }
+
+    public int solve(PyramidGame game, long start) {
+        seen.clear();
+        won.clear();
+        lost.clear();
+        statesVisited = 0;
+        if (PyramidGame.removedMask(start) == PyramidGame.SLOTS_MASK) return 0;
+
+        for (int s = 0; s < PyramidGame.SLOTS; s++) slotRank[s] = PyramidGame.rankOf(game.slotCard(s));
+        for (int i = 0; i < PyramidGame.TALON; i++) talonRank[i] = PyramidGame.rankOf(game.talonCard(i));
+        if (!winnable(PyramidGame.removedMask(start), talonCounts(start))) return UNSOLVABLE;
+        int full = maxRecycles == UNLIMITED ? WINNABLE : UNKNOWN;
+
+        start = normalize(start);
+        layer[0] = start;
+        int layerSize = 1;
+        seen.add(start);
+
+        for (int depth = 1; layerSize > 0; depth++) {
+            int nextSize = 0;
+            for (int i = 0; i < layerSize; i++) {
+                long st = layer[i];
+                statesVisited++;
+                int n = game.generateMoves(st, moveBuf);
+                n = forcedKing(moveBuf, n);
+                for (int k = 0; k < n; k++) {
+                    int m = moveBuf[k];
+                    if (PyramidGame.moveType(m) == PyramidGame.RECYCLE
+                            && maxRecycles != UNLIMITED && PyramidGame.recycles(st) >= maxRecycles) continue;
+
+                    long child = game.next(st, m);
+                    if (PyramidGame.removedMask(child) == PyramidGame.SLOTS_MASK) return depth;
+
+                    child = normalize(child);
+                    if (seen.contains(child)) continue;
+                    if (!winnable(PyramidGame.removedMask(child), talonCounts(child))) continue;
+                    if (seen.isFull()) return full;
+                    seen.add(child);
+
+                    if (nextSize == next.length) next = Arrays.copyOf(next, nextSize * 2);
+                    next[nextSize++] = child;
+                }
+            }
+            long[] t = layer; layer = next; next = t;
+            layerSize = nextSize;
+        }
+        return UNSOLVABLE;
+    }
+
+    // ----- winnability check -----
+
+    // Count of each rank 1-12 left in the talon, RANK_BITS per rank;
+    // talon kings are left out, they can always be drawn and removed
+    private long talonCounts(long st) {
+        long counts = 0;
+        for (int left = ~PyramidGame.talonGone(st) & (int) PyramidGame.TALON_MASK; left != 0; left &= left - 1) {
+            int r = talonRank[Integer.numberOfTrailingZeros(left)];
+            if (r < 13) counts += 1L << RANK_BITS * (r - 1);
+        }
+        return counts;
+    }
+
+    // Can the pyramid be cleared when any talon card can be paired at
+    // any time? Depth is at most one level per removed slot
+    private boolean winnable(int removed, long counts) {
+        if (removed == PyramidGame.SLOTS_MASK) return true;
+        long key = removed | counts << PyramidGame.SLOTS;
+        if (won.contains(key)) return true;
+        if (lost.contains(key)) return false;
+        statesVisited++;
+
+        boolean win = false;
+        int exposed = PyramidGame.exposedMask(removed);
+        int king = -1;
+        for (int m = exposed; m != 0; m &= m - 1) {
+            int a = Integer.numberOfTrailingZeros(m);
+            if (slotRank[a] == 13) { king = a; break; }
+        }
+        if (king >= 0) {
+            // Same argument as forcedKing
+            win = winnable(removed | 1 << king, counts);
+        } else {
+            for (int m = exposed; m != 0 && !win; m &= m - 1) {
+                int a = Integer.numberOfTrailingZeros(m);
+                int need = 13 - slotRank[a];
+                for (int p = m & (m - 1); p != 0 && !win; p &= p - 1) {
+                    int b = Integer.numberOfTrailingZeros(p);
+                    if (slotRank[b] == need) win = winnable(removed | 1 << a | 1 << b, counts);
+                }
+                long one = 1L << RANK_BITS * (need - 1);
+                if (!win && (counts & 7 * one) != 0) win = winnable(removed | 1 << a, counts - one);
+            }
+        }
+
+        if (win) {
+            if (won.isFull()) won = won.grown();
+            won.add(key);
+        } else {
+            if (lost.isFull()) lost = lost.grown();
+            lost.add(key);
+        }
+        return win;
+    }
+
+    // An exposed pyramid king can be taken first in some shortest win:
+    // removing it only exposes more cards, and it has to go at some point.
+    // So when one is available it is the only move worth trying
+    private static int forcedKing(int[] moves, int n) {
+        for (int k = 0; k < n; k++) {
+            if (PyramidGame.moveType(moves[k]) == PyramidGame.KING) {
+                moves[0] = moves[k];
+                return 1;
+            }
+        }
+        return n;
+    }
+
+    // With no recycle limit the count carries no information, so drop it
+    // and let positions that differ only in recycles merge
+    private long normalize(long st) {
+        return maxRecycles == UNLIMITED ? st & ~RECYCLE_BITS : st;
+    }
+
+    public long getStatesVisited() { return statesVisited; }
+    public int getMaxRecycles() { return maxRecycles; }
+    public long memoryBytes() {
+        return seen.memoryBytes() + won.memoryBytes() + lost.memoryBytes() + 8L * (layer.length + next.length);
+    }
+}
@@ -0,0 +1,80 @@
+//*********************************************
+// Spider Solitaire – Prototype 2
+// File: GameSnapshot.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Immutable copy of a SpiderGame position and metrics
+// Taken on the thread that owns the game (SpiderGame.snapshot),
+// then safe to read from any thread without locks
+// Each pile is its own packed byte array (SpiderState card
+// bytes, bottom first); arrays are never written once made,
+// so snapshots share the piles that did not change between them
+//
+//*********************************************
+
+package solitaire.spider.engine;
+
+import solitaire.core.DealId;
+import solitaire.spider.model.Card;
+
+public final class GameSnapshot {
+    private final byte[][] piles;
+    private final int moveCount;
+    private final int score;
+    private final long positionHash;
+    private final DealId dealId;
+
+    GameSnapshot(byte[][] piles, int moveCount, int score, long positionHash, DealId dealId) {
+        this.piles = piles;
+        this.moveCount = moveCount;
+        this.score = score;
+        this.positionHash = positionHash;
+        this.dealId = dealId;
+    }
+
+    // ----- read access -----
+    // Piles are numbered as in SpiderState: tableaux, foundations, stock
+
+    public int size(int pile) { return piles[pile].length; }
+
+    /** Card byte at index i of the pile (0 = bottom), see SpiderState */
+    public byte code(int pile, int i) { return piles[pile][i]; }
+
+    public Card card(int pile, int i) { return SpiderState.decode(piles[pile][i]); }
+    public boolean isFaceUp(int pile, int i) { return SpiderState.isFaceUp(piles[pile][i]); }
+
+    public int getMoveCount() { return moveCount; }
+    public int getScore() { return score; }
+    public DealId getDealId() { return dealId; }
+
+    // Same value as SpiderGame.positionHash() when the snapshot was taken
+    public long positionHash() { return positionHash; }
+
+    public boolean isWin() {
+        int n = 0;
+        for (int f = SpiderState.FOUNDATION_BASE; f < SpiderState.STOCK; f++) n += piles[f].length;
+        return n == SpiderState.TOTAL_CARDS;
+    }
+
+    /** Mutable packed copy, e.g. for a solver to search from */
+    public SpiderState toState() {
+        SpiderState s = new SpiderState();
+        int n = 0;
+        for (int p = 0; p < SpiderState.PILE_COUNT; p++) {
+            s.start[p] = (byte) n;
+            System.arraycopy(piles[p], 0, s.cards, n, piles[p].length);
+            n += piles[p].length;
+        }
+        s.start[SpiderState.PILE_COUNT] = (byte) n;
+        s.moveCount = moveCount;
+        s.score = score;
+        return s;
+    }
+
+    // Pile array for the next snapshot to share; never written
+    byte[] pile(int p) { return piles[p]; }
+}
@@ -11,23 +11,22 @@
 // Game engine that communicates between UI and model classes
 // Manages the Spider game state and mechanics
 // Handles movement, scoring, and win detection
+// snapshot() hands other threads an immutable GameSnapshot
 //
 //*********************************************
 
 package solitaire.spider.engine;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Deque;
 import java.util.List;
-import java.util.Random;
 
+import solitaire.core.DealId;
 import solitaire.core.PileType;
+import solitaire.core.Shuffler;
+import solitaire.core.UndoJournal;
+import solitaire.core.Zobrist;
 import solitaire.spider.model.Card;
-import solitaire.spider.model.Move;
 import solitaire.spider.model.Pile;
-import solitaire.spider.model.Suit;
 import solitaire.spider.rules.SpiderRules;
 
 
@@ -45,7 +44,17 @@ public class SpiderGame {
     public final Pile stock = new Pile(PileType.STOCK);
 
 
-    private final Deque<Move> undo = new ArrayDeque<>();
+    // Undo history, one packed int per action
+    private static final int MOVE_RUN = 0;
+    private static final int DEAL_ROW = 1;
+    private static final int EXTRACT_RUN = 2;
+    private final UndoJournal undo = new UndoJournal();
+
+
+    // Deal buffer: two decks of card ids, reused by every newGame
+    private static final int SHOE = 104;
+    private final byte[] shoe = new byte[SHOE];
+    private final Shuffler shuffler = new Shuffler();
 
 
     // Count/score metrics
@@ -53,47 +62,178 @@ public class SpiderGame {
     private int moveCount = 0;
     private int score = 0;
 
+    // Zobrist hash of the current position
+    private long hash;
+
+    // Piles changed since the last takeDirty(), one bit per pile number
+    private int dirty;
+
+    // Piles changed since the last snapshot(), and that snapshot
+    private int snapDirty = ALL_PILES;
+    private GameSnapshot snapshot = null;
+    private static final byte[] NO_CARDS = new byte[0];
+
+    // Number of the current deal, null if it came from a raw seed or a saved state
+    private DealId dealId;
+
     // New Game
     // Base 1-suit Spider table
     public void newGame(long seed, boolean oneSuit) {
-        tableaux.clear();
-        foundations.clear();
+        resetPiles();
         undo.clear();
-        for (int i = 0; i < TABLEAU_COUNT; i++) tableaux.add(new Pile(PileType.TABLEAU));
-        for (int i = 0; i < FOUNDATION_COUNT; i++) foundations.add(new Pile(PileType.FOUNDATION));
+        dealId = null;
 
 
     // Build deck: 2 decks = 104 cards
         // For one-suit, use SPADES
-        List<Card> deck = new ArrayList<>(104);
+        // Card ids go in rank by rank, suits in enum order; the seeded
+        // shuffle of this order is what fixes each deal
+        int n = 0;
         for (int d = 0; d < 2; d++) {
             for (int r = 1; r <= 13; r++) {
-                deck.add(new Card(oneSuit ? Suit.SPADES : Suit.SPADES, r, false));
-                deck.add(new Card(oneSuit ? Suit.SPADES : Suit.HEARTS, r, false));
-                deck.add(new Card(oneSuit ? Suit.SPADES : Suit.DIAMONDS, r, false));
-                deck.add(new Card(oneSuit ? Suit.SPADES : Suit.CLUBS, r, false));
+                for (int s = 0; s < 4; s++) shoe[n++] = (byte) ((oneSuit ? 0 : s) * 13 + r - 1);
             }
         }
-        Collections.shuffle(deck, new Random(seed));
+        shuffler.shuffle(shoe, SHOE, seed);
 
         // Initial deal layout:
         // Piles 0-3 get 6
         // 4-9 get 5
         // Top cards face up
+        // Tableau cards come off the end of the shoe
+        int top = SHOE;
         for (int i = 0; i < TABLEAU_COUNT; i++) {
             int count = (i < 4) ? 6 : 5;
-            for (int k = 0; k < count; k++) tableaux.get(i).push(deck.remove(deck.size() - 1));
-            tableaux.get(i).top().setFaceUp(true);
+            for (int k = 0; k < count; k++) tableaux.get(i).pushFaceDown(Card.of(shoe[--top]));
+            tableaux.get(i).flipTopUpIfNeeded();
         }
 
 
         // Remaining cards go to stock
-        for (Card c : deck) stock.push(c);
+        for (int k = 0; k < top; k++) stock.pushFaceDown(Card.of(shoe[k]));
         moveCount = 0; score = 0;
+        hash = recomputeHash();
+        touched(ALL_PILES);
+    }
+
+
+    public void newGame() { newGame(DealId.random(), true); }
+
+    // Numbered deal; the same number always deals the same layout
+    public void newGame(DealId deal, boolean oneSuit) {
+        newGame(deal.seed(), oneSuit);
+        dealId = deal;
+    }
+
+    public DealId getDealId() { return dealId; }
+
+    // Creates the piles on first use, afterwards empties them
+    // Keeping the same Pile objects means no allocation per deal
+    private void resetPiles() {
+        if (tableaux.isEmpty()) {
+            for (int i = 0; i < TABLEAU_COUNT; i++) tableaux.add(new Pile(PileType.TABLEAU));
+            for (int i = 0; i < FOUNDATION_COUNT; i++) foundations.add(new Pile(PileType.FOUNDATION));
+        }
+        for (Pile p : tableaux) p.clear();
+        for (Pile p : foundations) p.clear();
+        stock.clear();
+    }
+
+    // Packed copy of the position and metrics
+    public SpiderState saveState() { return SpiderState.capture(this); }
+
+    /**
+     * Immutable copy of the position for other threads to read.
+     * Call on the thread that plays the game. Unchanged piles are
+     * shared with the previous snapshot, so after a move only the
+     * piles it touched are packed; with no change it is the same object.
+     */
+    public GameSnapshot snapshot() {
+        GameSnapshot last = snapshot;
+        if (last != null && snapDirty == 0 && last.getMoveCount() == moveCount
+                && last.getScore() == score && last.getDealId() == dealId) {
+            return last;
+        }
+        byte[][] piles = new byte[SpiderState.PILE_COUNT][];
+        for (int p = 0; p < piles.length; p++) {
+            piles[p] = last != null && (snapDirty & 1 << p) == 0 ? last.pile(p) : pack(pileAt(p));
+        }
+        snapDirty = 0;
+        snapshot = new GameSnapshot(piles, moveCount, score, hash, dealId);
+        return snapshot;
     }
 
+    private static byte[] pack(Pile pile) {
+        List<Card> cards = pile.getCards();
+        if (cards.isEmpty()) return NO_CARDS;
+        byte[] b = new byte[cards.size()];
+        for (int i = 0; i < b.length; i++) b[i] = SpiderState.encode(cards.get(i), pile.isFaceUp(i));
+        return b;
+    }
 
-    public void newGame() { newGame(System.nanoTime(), true); }
+    // Replace the position with a saved one
+    // Undo history is cleared, metrics come from the state
+    public void loadState(SpiderState state) {
+        resetPiles();
+        undo.clear();
+        dealId = null;
+        state.writeTo(this);
+        moveCount = state.getMoveCount();
+        score = state.getScore();
+        hash = recomputeHash();
+        touched(ALL_PILES);
+    }
+
+    // Length of the face-up, same-suit, descending run on top of a tableau
+    // Cached by the pile, O(1)
+    public int runLength(int pileIndex) {
+        return tableaux.get(pileIndex).topRunLength();
+    }
+
+    // Longest run that can legally go from one tableau to another, 0 if none
+    // Onto a card only one length fits; onto an empty column the whole run does
+    public int longestLegalCount(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) return 0;
+        int run = runLength(fromIndex);
+        if (run == 0) return 0;
+        Pile to = tableaux.get(toIndex);
+        if (to.isEmpty()) return run;
+        if (!to.isTopFaceUp()) return 0;
+        Card dest = to.top();
+        int count = dest.getRank() - tableaux.get(fromIndex).top().getRank();
+        return count >= 1 && count <= run ? count : 0;
+    }
+
+    // Lists every legal run move plus the deal, encoded like SpiderState moves
+    // Writes into the caller's buffer (SpiderState.MAX_MOVES long) and returns the count
+    public int generateMoves(int[] out) {
+        int n = 0;
+        for (int from = 0; from < TABLEAU_COUNT; from++) {
+            int run = runLength(from);
+            if (run == 0) continue;
+            int topRank = tableaux.get(from).top().getRank();
+            for (int to = 0; to < TABLEAU_COUNT; to++) {
+                if (to == from) continue;
+                Pile dest = tableaux.get(to);
+                if (dest.isEmpty()) {
+                    for (int c = 1; c <= run; c++) out[n++] = SpiderState.encodeMove(from, c, to);
+                    continue;
+                }
+                if (!dest.isTopFaceUp()) continue;
+                Card top = dest.top();
+                int count = top.getRank() - topRank;
+                if (count >= 1 && count <= run) out[n++] = SpiderState.encodeMove(from, count, to);
+            }
+        }
+        if (stock.getCards().size() >= TABLEAU_COUNT && rules.canDeal(tableaux)) out[n++] = SpiderState.DEAL;
+        return n;
+    }
+
+    // Plays a move from generateMoves
+    public boolean applyMove(int move) {
+        if (SpiderState.isDeal(move)) return dealRow();
+        return moveRun(SpiderState.moveFrom(move), SpiderState.moveCount(move), SpiderState.moveTo(move));
+    }
 
     // Enforce rule:
     // Moving run is face-up
@@ -103,24 +243,17 @@ public class SpiderGame {
         if (!rules.canMove(from, count, to)) return false;
 
         int beforeSize = from.getCards().size();
-        boolean willReveal = false;
         int revealIdx = beforeSize - count - 1;
-        if (revealIdx >= 0) {
-            Card newTop = from.getCards().get(revealIdx);
-            willReveal = !newTop.isFaceUp();
-        }
+        boolean willReveal = revealIdx >= 0 && !from.isFaceUp(revealIdx);
 
         // Move the cards
-        List<Card> run = from.takeTop(count);
-        to.addRun(run);
+        transfer(fromIndex, toIndex, count);
 
         // Auto-flip per Spider game rules
-        from.flipTopUpIfNeeded();
+        if (willReveal) setFaceUp(fromIndex, revealIdx, true);
 
         // Record move
-        Move rec = new Move(Move.Type.MOVE_RUN, fromIndex, toIndex, count, new ArrayList<>(run));
-        rec.setFlippedAfterMove(willReveal);
-        undo.push(rec);
+        undo.push(MOVE_RUN, fromIndex, toIndex, count, willReveal ? UndoJournal.FLIPPED : 0);
 
         moveCount++; score -= 1;
         extractCompletedRuns();
@@ -132,15 +265,12 @@ public class SpiderGame {
     // Cannot deal if any tableau is empty
     public boolean dealRow() {
         if (!rules.canDeal(tableaux)) return false;
-        List<Card> dealt = new ArrayList<>(TABLEAU_COUNT);
+        if (stock.getCards().size() < TABLEAU_COUNT) return false; // no more stock
         for (int i = 0; i < TABLEAU_COUNT; i++) {
-            Card c = stock.pop();
-            if (c == null) return false; // no more stock
-            c.setFaceUp(true);
-            tableaux.get(i).push(c);
-            dealt.add(c);
+            // Lands on a face-up card (no column is empty), so it turns up
+            transfer(SpiderState.STOCK, i, 1);
         }
-        undo.push(new Move(Move.Type.DEAL_ROW, -1, -1, TABLEAU_COUNT, dealt));
+        undo.push(DEAL_ROW, 0, 0, TABLEAU_COUNT, 0);
         moveCount++; score -= 5;
         extractCompletedRuns();
         return true;
@@ -152,57 +282,23 @@ public class SpiderGame {
     public void extractCompletedRuns() {
         for (int i = 0; i < TABLEAU_COUNT; i++) {
             Pile t = tableaux.get(i);
-            int size = t.getCards().size();
-            if (size < 13) continue;
-
-            List<Card> cards = t.getCards();
-            int topIdx = size - 1;
-            int start = size - 13;
 
-            boolean ok = true;
+            // Top run of 13 face-up, same-suit, descending cards (cached by the pile)
+            if (t.topRunLength() < 13) continue;
+            int start = t.getCards().size() - 13;
 
-            // Check all 13
-            for (int k = start; k < size; k++) {
-                Card c = cards.get(k);
-                if (!c.isFaceUp()) {
-                    ok = false;
-                    break;
-                }
-                if (k > start) {
-                    Card prev = cards.get(k - 1);
-                    // Check same suit
-                    if (c.getSuit() != prev.getSuit()) {
-                        ok = false;
-                        break;
-                    }
-                    // Check descending by 1
-                    if (c.getRank() != prev.getRank() - 1) {
-                        ok = false;
-                        break;
-                    }
-                }
-            }
-
-            if (!ok) continue;
+            // Put into first empty foundation
+            int f = 0;
+            while (f < FOUNDATION_COUNT && !foundations.get(f).isEmpty()) f++;
+            if (f == FOUNDATION_COUNT) continue;
 
             // Move 13 cards
-            List<Card> extracted = t.takeTop(13);
-
-            // Put into first empty foundation
-            for (Pile f : foundations) {
-                if (f.getCards().isEmpty()) {
-                    f.addRun(extracted);
-                    break;
-                }
-            }
+            transfer(i, SpiderState.FOUNDATION_BASE + f, 13);
 
-            t.flipTopUpIfNeeded();
+            boolean flipped = !t.isEmpty() && !t.isTopFaceUp();
+            if (flipped) setFaceUp(i, start - 1, true);
 
-            undo.push(new solitaire.spider.model.Move(
-                    solitaire.spider.model.Move.Type.EXTRACT_RUN,
-                    i, -1, 13,
-                    new java.util.ArrayList<>(extracted)
-            ));
+            undo.push(EXTRACT_RUN, i, f, 13, flipped ? UndoJournal.FLIPPED : 0);
         }
     }
 
@@ -211,61 +307,116 @@ public class SpiderGame {
     public boolean isWin() { return rules.isWin(foundations); }
 
     // Undo conditions
+    // Cards are moved back from where the journal says they went
     public boolean undo() {
-        if (undo.isEmpty()) return false;
-        Move m = undo.pop();
-        switch (m.getType()) {
+        int e = undo.pop();
+        if (e == UndoJournal.NONE) return false;
+        switch (UndoJournal.type(e)) {
             case MOVE_RUN -> {
-                List<Card> run = m.getPayload();
-                Pile to   = tableaux.get(m.getToIndex());
-                Pile from = tableaux.get(m.getFromIndex());
-
-                // Remove the run from destination (preserve order)
-                for (int i = 0; i < run.size(); i++) to.pop();
-
-                // Add it back to source in original order
-                for (Card c : run) from.push(c);
-
-                // The moved card should be face-up as before
-                if (!from.isEmpty()) from.top().setFaceUp(true);
+                int fromIndex = UndoJournal.from(e);
+                int size = tableaux.get(fromIndex).getCards().size();
 
                 // If the forward move auto-revealed the underlying card:
                 // Flip that card back down
-                if (m.isFlippedAfterMove()) {
-                    int idx = from.getCards().size() - m.getCount() - 1;
-                    if (idx >= 0) {
-                        from.getCards().get(idx).setFaceUp(false);
-                    }
-                }
+                if (UndoJournal.flipped(e) && size > 0) setFaceUp(fromIndex, size - 1, false);
+
+                // Move the run back to the source in its original order
+                transfer(UndoJournal.to(e), fromIndex, UndoJournal.count(e));
             }
 
             // Remove last card from each tableau in reverse order back to stock
+            // It goes back face up, then turns down on the stock
             case DEAL_ROW -> {
                 for (int i = TABLEAU_COUNT - 1; i >= 0; i--) {
-                    Card c = tableaux.get(i).pop();
-                    if (c != null) { c.setFaceUp(false); stock.push(c); }
+                    if (tableaux.get(i).isEmpty()) continue;
+                    transfer(i, SpiderState.STOCK, 1);
+                    setFaceUp(SpiderState.STOCK, stock.getCards().size() - 1, false);
                 }
             }
 
-            // Take from last non-empty foundation back to the given tableau
+            // Take the run from its foundation back to the tableau it came from
             case EXTRACT_RUN -> {
-                List<Card> run = m.getPayload();
-                Pile fromF = null;
-                for (int i = foundations.size() - 1; i >= 0; i--) {
-                    if (!foundations.get(i).isEmpty()) { fromF = foundations.get(i); break; }
-                }
-                if (fromF != null) {
-                    for (int i = 0; i < 13; i++) fromF.pop();
-                }
-                Pile toT = tableaux.get(m.getFromIndex());
-                toT.addRun(run);
-                toT.top().setFaceUp(true);
+                int t = UndoJournal.from(e);
+                int size = tableaux.get(t).getCards().size();
+                if (UndoJournal.flipped(e) && size > 0) setFaceUp(t, size - 1, false);
+                transfer(SpiderState.FOUNDATION_BASE + UndoJournal.to(e), t, UndoJournal.count(e));
             }
         }
         moveCount = Math.max(0, moveCount - 1); score += 1;
         return true;
     }
 
+    // ----- Zobrist position hash -----
+    // Piles are numbered as in SpiderState: tableaux, foundations, stock
+    // Every card change below goes through transfer or setFaceUp,
+    // which keep the hash current
+
+    // Current position hash, O(1)
+    public long positionHash() { return hash; }
+
+    // Full recompute from the piles, for checking the incremental value
+    public long recomputeHash() {
+        long h = 0;
+        for (int p = 0; p < SpiderState.PILE_COUNT; p++) {
+            Pile pile = pileAt(p);
+            List<Card> cards = pile.getCards();
+            for (int i = 0; i < cards.size(); i++) h ^= cardKey(p, i, cards.get(i), pile.isFaceUp(i));
+        }
+        return h;
+    }
+
+    private Pile pileAt(int p) {
+        if (p < SpiderState.FOUNDATION_BASE) return tableaux.get(p);
+        if (p < SpiderState.STOCK) return foundations.get(p - SpiderState.FOUNDATION_BASE);
+        return stock;
+    }
+
+    private static long cardKey(int pile, int index, Card c, boolean faceUp) {
+        return Zobrist.key(pile, index, Zobrist.code(c.getRank(), c.getSuit().ordinal(), faceUp));
+    }
+
+    // Moves the top count cards between piles, keeping their order
+    private void transfer(int fromPile, int toPile, int count) {
+        Pile from = pileAt(fromPile), to = pileAt(toPile);
+        List<Card> src = from.getCards();
+        int start = src.size() - count, dest = to.getCards().size();
+        for (int i = 0; i < count; i++) hash ^= cardKey(fromPile, start + i, src.get(start + i), from.isFaceUp(start + i));
+        from.moveTopTo(to, count);
+
+        // Face state can change on the way (face-down onto face-up turns up)
+        List<Card> dst = to.getCards();
+        for (int i = 0; i < count; i++) hash ^= cardKey(toPile, dest + i, dst.get(dest + i), to.isFaceUp(dest + i));
+        touched(1 << fromPile | 1 << toPile);
+    }
+
+    private void setFaceUp(int pile, int index, boolean up) {
+        Pile p = pileAt(pile);
+        if (p.isFaceUp(index) == up) return;
+        Card c = p.getCards().get(index);
+        hash ^= cardKey(pile, index, c, !up) ^ cardKey(pile, index, c, up);
+        p.setFaceUp(index, up);
+        touched(1 << pile);
+    }
+
+    // ----- change tracking -----
+    // transfer and setFaceUp mark the piles they touch, so the UI
+    // can redraw just those, once, however many changes came first,
+    // and snapshot() packs just those again
+
+    public static final int ALL_PILES = (1 << SpiderState.PILE_COUNT) - 1;
+
+    private void touched(int piles) {
+        dirty |= piles;
+        snapDirty |= piles;
+    }
+
+    /** Bit p set if pile p changed since the last call; clears the set */
+    public int takeDirty() {
+        int d = dirty;
+        dirty = 0;
+        return d;
+    }
+
     // Metrics
     public int getMoveCount() { return moveCount; }
     public int getScore() { return score; }
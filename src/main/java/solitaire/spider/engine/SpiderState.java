@@ -0,0 +1,313 @@
+//*********************************************
+// Spider Solitaire – Prototype 2
+// File: SpiderState.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Compact copy of a Spider position for solvers and simulators
+// Each card is one byte, all piles share one flat array:
+//   bits 0-3 rank (1..13), bits 4-5 suit ordinal, bit 7 face-up
+// Piles are stored back to back in this order:
+//   10 tableaux, 8 foundations, stock
+// start[p] is the first card of pile p, start[p + 1] is one past its top
+//
+//*********************************************
+
+package solitaire.spider.engine;
+
+import java.util.Arrays;
+import java.util.List;
+
+import solitaire.spider.model.Card;
+import solitaire.spider.model.Pile;
+import solitaire.spider.model.Suit;
+
+public final class SpiderState {
+    public static final int TOTAL_CARDS = 104;
+
+    // Pile numbering inside the state
+    public static final int FOUNDATION_BASE = SpiderGame.TABLEAU_COUNT;
+    public static final int STOCK = FOUNDATION_BASE + SpiderGame.FOUNDATION_COUNT;
+    public static final int PILE_COUNT = STOCK + 1;
+
+    public static final int RANK_MASK = 0x0F;
+    public static final int SUIT_SHIFT = 4;
+    public static final int FACE_UP = 0x80;
+
+    private static final Suit[] SUITS = Suit.values();
+
+    final byte[] cards = new byte[TOTAL_CARDS];
+    final byte[] start = new byte[PILE_COUNT + 1];
+
+    int moveCount;
+    int score;
+
+    public SpiderState() {}
+
+    // ----- codec -----
+
+    public static byte encode(Card c, boolean faceUp) {
+        int b = c.getRank() | (c.getSuit().ordinal() << SUIT_SHIFT);
+        if (faceUp) b |= FACE_UP;
+        return (byte) b;
+    }
+
+    // The shared card; the face-up bit is for the pile
+    public static Card decode(byte b) {
+        return Card.of(SUITS[suitOf(b)], rankOf(b));
+    }
+
+    public static int rankOf(byte b) { return b & RANK_MASK; }
+    public static int suitOf(byte b) { return (b >> SUIT_SHIFT) & 0x03; }
+    public static boolean isFaceUp(byte b) { return (b & FACE_UP) != 0; }
+
+    /** Packs the current piles and metrics of the game */
+    public static SpiderState capture(SpiderGame game) {
+        SpiderState s = new SpiderState();
+        s.captureFrom(game);
+        return s;
+    }
+
+    /** Same as capture, but reuses this instance */
+    public void captureFrom(SpiderGame game) {
+        int n = 0;
+        for (int p = 0; p < PILE_COUNT; p++) {
+            start[p] = (byte) n;
+            Pile pile = pileOf(game, p);
+            List<Card> list = pile.getCards();
+            for (int i = 0; i < list.size(); i++) cards[n++] = encode(list.get(i), pile.isFaceUp(i));
+        }
+        start[PILE_COUNT] = (byte) n;
+        moveCount = game.getMoveCount();
+        score = game.getScore();
+    }
+
+    /** Rebuilds the game piles from this state (shared Card instances) */
+    void writeTo(SpiderGame game) {
+        for (int p = 0; p < PILE_COUNT; p++) {
+            Pile pile = pileOf(game, p);
+            pile.clear();
+            for (int i = start(p); i < end(p); i++) {
+                if (isFaceUp(cards[i])) pile.push(decode(cards[i]));
+                else pile.pushFaceDown(decode(cards[i]));
+            }
+        }
+    }
+
+    private static Pile pileOf(SpiderGame game, int p) {
+        if (p < FOUNDATION_BASE) return game.tableaux.get(p);
+        if (p < STOCK) return game.foundations.get(p - FOUNDATION_BASE);
+        return game.stock;
+    }
+
+    // ----- copying -----
+
+    public SpiderState copy() {
+        SpiderState s = new SpiderState();
+        s.copyFrom(this);
+        return s;
+    }
+
+    public void copyFrom(SpiderState other) {
+        System.arraycopy(other.cards, 0, cards, 0, TOTAL_CARDS);
+        System.arraycopy(other.start, 0, start, 0, PILE_COUNT + 1);
+        moveCount = other.moveCount;
+        score = other.score;
+    }
+
+    // ----- read access -----
+
+    public int start(int pile) { return start[pile] & 0xFF; }
+    public int end(int pile) { return start[pile + 1] & 0xFF; }
+    public int size(int pile) { return end(pile) - start(pile); }
+
+    /** Card byte at index i of the pile (0 = bottom) */
+    public byte card(int pile, int i) { return cards[start(pile) + i]; }
+
+    /** Top card byte, or 0 if the pile is empty */
+    public byte top(int pile) {
+        int e = end(pile);
+        return e == start(pile) ? 0 : cards[e - 1];
+    }
+
+    public int getMoveCount() { return moveCount; }
+    public int getScore() { return score; }
+
+    public boolean isWin() {
+        return end(STOCK - 1) - start(FOUNDATION_BASE) == TOTAL_CARDS;
+    }
+
+    // ----- moves -----
+    // Encoded as ints: from bits 0-3, to bits 4-7, count bits 8-12
+    // A deal from the stock is the single value DEAL
+
+    public static final int DEAL = 1 << 15;
+    public static final int MAX_MOVES = SpiderGame.TABLEAU_COUNT * (SpiderGame.TABLEAU_COUNT - 1) * 13 + 1;
+
+    public static int encodeMove(int from, int count, int to) { return from | to << 4 | count << 8; }
+    public static int moveFrom(int move) { return move & 0x0F; }
+    public static int moveTo(int move) { return (move >>> 4) & 0x0F; }
+    public static int moveCount(int move) { return (move >>> 8) & 0x1F; }
+    public static boolean isDeal(int move) { return move == DEAL; }
+
+    /** Length of the face-up, same-suit, descending run on top of a pile */
+    public int runLength(int pile) {
+        int s = start(pile), e = end(pile);
+        if (e == s || !isFaceUp(cards[e - 1])) return 0;
+        int run = 1;
+        for (int i = e - 1; i > s; i--) {
+            byte above = cards[i], below = cards[i - 1];
+            if (!isFaceUp(below) || suitOf(below) != suitOf(above) || rankOf(below) != rankOf(above) + 1) break;
+            run++;
+        }
+        return run;
+    }
+
+    // Same rule as SpiderRules.canMove
+    public boolean canMove(int from, int count, int to) {
+        if (from == to || count <= 0 || count > runLength(from)) return false;
+        if (size(to) == 0) return true;
+        byte dest = top(to);
+        return isFaceUp(dest) && rankOf(dest) == rankOf(cards[end(from) - count]) + 1;
+    }
+
+    public boolean canDeal() {
+        if (size(STOCK) < SpiderGame.TABLEAU_COUNT) return false;
+        for (int t = 0; t < SpiderGame.TABLEAU_COUNT; t++) if (size(t) == 0) return false;
+        return true;
+    }
+
+    /** Lists every legal run move plus the deal; returns how many were written */
+    public int generateMoves(int[] out) {
+        int n = 0;
+        for (int from = 0; from < SpiderGame.TABLEAU_COUNT; from++) {
+            int run = runLength(from);
+            if (run == 0) continue;
+            int topRank = rankOf(top(from));
+            int headRank = topRank + run - 1;
+            for (int to = 0; to < SpiderGame.TABLEAU_COUNT; to++) {
+                if (to == from) continue;
+                if (size(to) == 0) {
+                    for (int c = 1; c <= run; c++) out[n++] = encodeMove(from, c, to);
+                    continue;
+                }
+                byte dest = top(to);
+                if (!isFaceUp(dest)) continue;
+                int need = rankOf(dest) - 1;
+                if (need >= topRank && need <= headRank) out[n++] = encodeMove(from, need - topRank + 1, to);
+            }
+        }
+        if (canDeal()) out[n++] = DEAL;
+        return n;
+    }
+
+    /** Applies an encoded move with the same effects as SpiderGame; false if illegal */
+    public boolean apply(int move) {
+        return isDeal(move) ? dealRow() : moveRun(moveFrom(move), moveCount(move), moveTo(move));
+    }
+
+    public boolean moveRun(int from, int count, int to) {
+        if (!canMove(from, count, to)) return false;
+        transfer(from, count, to);
+        flipTop(from);
+        moveCount++; score -= 1;
+        extractCompletedRuns();
+        return true;
+    }
+
+    public boolean dealRow() {
+        if (!canDeal()) return false;
+        for (int t = 0; t < SpiderGame.TABLEAU_COUNT; t++) {
+            transfer(STOCK, 1, t);
+            cards[end(t) - 1] |= FACE_UP;
+        }
+        moveCount++; score -= 5;
+        extractCompletedRuns();
+        return true;
+    }
+
+    public void extractCompletedRuns() {
+        for (int t = 0; t < SpiderGame.TABLEAU_COUNT; t++) {
+            if (runLength(t) < 13) continue;
+            for (int f = FOUNDATION_BASE; f < STOCK; f++) {
+                if (size(f) == 0) {
+                    transfer(t, 13, f);
+                    flipTop(t);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void flipTop(int pile) {
+        int e = end(pile);
+        if (e > start(pile)) cards[e - 1] |= FACE_UP;
+    }
+
+    // Moves the top count cards of one pile onto another, keeping their order.
+    // Piles are adjacent in the flat array, so this is a rotation of the
+    // span between them plus an offset fix-up
+    private void transfer(int from, int count, int to) {
+        if (from < to) {
+            int a = end(from) - count, e = end(to);
+            rotate(a, a + count, e);
+            for (int p = from + 1; p <= to; p++) start[p] -= count;
+        } else {
+            int a = end(to), e = end(from);
+            rotate(a, e - count, e);
+            for (int p = to + 1; p <= from; p++) start[p] += count;
+        }
+    }
+
+    // Swap blocks [a, m) and [m, e)
+    private void rotate(int a, int m, int e) {
+        reverse(a, m);
+        reverse(m, e);
+        reverse(a, e);
+    }
+
+    private void reverse(int i, int j) {
+        for (j--; i < j; i++, j--) {
+            byte t = cards[i]; cards[i] = cards[j]; cards[j] = t;
+        }
+    }
+
+    /** 64-bit position key (metrics excluded) */
+    public long key() {
+        long h = 0xCBF29CE484222325L;
+        for (int p = 1; p <= PILE_COUNT; p++) h = (h ^ start[p]) * 0x100000001B3L;
+        for (int i = 0, n = end(STOCK); i < n; i++) h = (h ^ cards[i]) * 0x100000001B3L;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    // Position only: metrics are not part of equality
+    @Override public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SpiderState s)) return false;
+        return Arrays.equals(start, s.start) && Arrays.equals(cards, 0, end(STOCK), s.cards, 0, s.end(STOCK));
+    }
+
+    @Override public int hashCode() {
+        int h = Arrays.hashCode(start);
+        for (int i = 0, n = end(STOCK); i < n; i++) h = 31 * h + cards[i];
+        return h;
+    }
+
+    @Override public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int p = 0; p < PILE_COUNT; p++) {
+            sb.append(p < FOUNDATION_BASE ? "T" + p : p < STOCK ? "F" + (p - FOUNDATION_BASE) : "S").append(':');
+            for (int i = start(p); i < end(p); i++) {
+                byte b = cards[i];
+                sb.append(' ').append(isFaceUp(b) ? "" : "#").append(rankOf(b)).append("SHDC".charAt(suitOf(b)));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -9,32 +9,44 @@
 //
 // Description:
 // Spider variant specific cards
-// Stores rank, suit, face-up state
+// Stores rank and suit; immutable, one shared instance per
+// rank and suit (Card.of), so both decks use the same 52
+// Face-up state belongs to the pile (Pile.isFaceUp)
 //
 //*********************************************
 
 package solitaire.spider.model;
 
-public class Card {
+public final class Card {
     private final Suit suit;
     private final int rank; // King starts rank 13, lowers with following ranks
-    private boolean faceUp;
 
+    // Index suit.ordinal() * 13 + rank - 1
+    private static final Card[] ALL = new Card[52];
+    static {
+        for (Suit s : Suit.values())
+            for (int r = 1; r <= 13; r++) ALL[s.ordinal() * 13 + r - 1] = new Card(s, r);
+    }
 
-    public Card(Suit suit, int rank, boolean faceUp) {
-        if (rank < 1 || rank > 13) throw new IllegalArgumentException("rank 1..13");
+
+    private Card(Suit suit, int rank) {
         this.suit = suit;
         this.rank = rank;
-        this.faceUp = faceUp;
     }
 
 
-    public Suit getSuit() { return suit; }
-    public int getRank() { return rank; }
+    // The shared card for this suit and rank
+    public static Card of(Suit suit, int rank) {
+        if (rank < 1 || rank > 13) throw new IllegalArgumentException("rank 1..13");
+        return ALL[suit.ordinal() * 13 + rank - 1];
+    }
+
+    // The shared card for an id suit.ordinal() * 13 + rank - 1
+    public static Card of(int id) { return ALL[id]; }
 
 
-    public boolean isFaceUp() { return faceUp; }
-    public void setFaceUp(boolean faceUp) { this.faceUp = faceUp; }
+    public Suit getSuit() { return suit; }
+    public int getRank() { return rank; }
 
 
     public boolean isOneLowerSameSuit(Card other) {
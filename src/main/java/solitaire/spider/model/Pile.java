@@ -11,13 +11,17 @@
 // Spider card column with storage
 // Provides operations for card movements
 // As well as methods for flipping and game integrity
+// Face-down cards are always at the bottom, so the pile only
+// counts them; cards themselves are shared and immutable
 //
 //*********************************************
 
 package solitaire.spider.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import solitaire.core.PileChange;
 import solitaire.core.PileType;
 
 
@@ -25,6 +29,19 @@ public class Pile {
     private final PileType type;
     private final List<Card> cards = new ArrayList<>();
 
+    // Cards below this index are face down, the rest face up
+    private int faceDown = 0;
+
+    // Bumped on every change; listeners get a PileChange record for each
+    // Changes made straight through getCards() are not reported
+    // and leave the run index stale
+    private long version = 0;
+    private List<PileChange.Listener> listeners = null;
+
+    // runAt[i] = length of the face-up, same-suit, descending run ending at card i
+    // Redone from the changed index up on every reported change (see reindex)
+    private int[] runAt = new int[16];
+
 
     public Pile(PileType type) { this.type = type; }
 
@@ -38,41 +55,154 @@ public class Pile {
     public Card top() { return isEmpty() ? null : cards.get(cards.size() - 1); }
 
 
-    public void push(Card c) { cards.add(c); }
+    public boolean isFaceUp(int index) { return index >= faceDown; }
 
 
-    public Card pop() { return isEmpty() ? null : cards.remove(cards.size() - 1); }
+    public boolean isTopFaceUp() { return faceDown < cards.size(); }
+
+
+    // Push face up
+    public void push(Card c) {
+        cards.add(c);
+        changed(PileChange.push(1));
+    }
+
+
+    // Push face down; only while every card below is face down too
+    public void pushFaceDown(Card c) {
+        if (faceDown != cards.size()) throw new IllegalStateException("face-down card on a face-up one");
+        cards.add(c);
+        faceDown++;
+        changed(PileChange.push(1));
+    }
+
+
+    public Card pop() {
+        if (isEmpty()) return null;
+        Card c = cards.remove(cards.size() - 1);
+        changed(PileChange.pop(1));
+        return c;
+    }
 
 
     // Remove the top N cards
     // Return in correct order
     public List<Card> takeTop(int count) {
-        List<Card> out = new ArrayList<>(count);
-        for (int i = 0; i < count; i++) {
-            Card c = pop();
-            out.add(0, c);
-        }
+        int start = cards.size() - count;
+        List<Card> out = new ArrayList<>(cards.subList(start, cards.size()));
+        cards.subList(start, cards.size()).clear();
+        changed(PileChange.pop(count));
         return out;
     }
 
 
-    // Add a run in order
+    // Move the top N cards onto another pile, keeping their order
+    // No temporary list, so undo and solvers can call it freely
+    // Face-down cards stay face down only if they land on face-down
+    // cards (or an empty pile); on a face-up card they turn up
+    public void moveTopTo(Pile dest, int count) {
+        int start = cards.size() - count;
+        int down = Math.max(0, faceDown - start);
+        boolean destAllDown = dest.faceDown == dest.cards.size();
+
+        for (int i = start; i < cards.size(); i++) dest.cards.add(cards.get(i));
+        for (int i = 0; i < count; i++) cards.remove(cards.size() - 1);
+        if (destAllDown) dest.faceDown += down;
+
+        changed(PileChange.pop(count));
+        dest.changed(PileChange.push(count));
+    }
+
+
+    // Add a run in order, face up
     // Add to the foundations
     public void addRun(List<Card> run) {
-        if (type == PileType.FOUNDATION) {
-            cards.addAll(run);
-            return;
-        }
-
         cards.addAll(run);
+        changed(PileChange.push(run.size()));
     }
 
 
     // Flip top card face up if needed
     public void flipTopUpIfNeeded() {
-        if (type == PileType.TABLEAU && !cards.isEmpty()) {
-            Card t = top();
-            if (!t.isFaceUp()) t.setFaceUp(true);
+        if (type == PileType.TABLEAU && !cards.isEmpty() && !isTopFaceUp()) {
+            setFaceUp(cards.size() - 1, true);
+        }
+    }
+
+
+    // Turn one card, reported as a flip
+    // Only the card at the face-down boundary can turn:
+    // the lowest face-up card down, or the highest face-down card up
+    public void setFaceUp(int index, boolean up) {
+        if (isFaceUp(index) == up) return;
+        if (index != (up ? faceDown - 1 : faceDown)) {
+            throw new IllegalArgumentException("only the card at the face-down boundary can turn");
+        }
+        faceDown += up ? -1 : 1;
+        changed(PileChange.flip(index, up));
+    }
+
+
+    public void clear() {
+        int n = cards.size();
+        if (n == 0) return;
+        cards.clear();
+        changed(PileChange.pop(n));
+    }
+
+
+    // ----- cached run index -----
+
+    // Length of the face-up, same-suit, descending run on top, O(1)
+    public int topRunLength() {
+        return cards.isEmpty() ? 0 : runAt[cards.size() - 1];
+    }
+
+
+    // Face-down cards under the face-up part, O(1)
+    public int faceDownCount() { return faceDown; }
+
+
+    // Redoes the run index for cards from..top; cards below from are unchanged
+    private void reindex(int from) {
+        int n = cards.size();
+        if (faceDown > n) faceDown = n;
+        if (n > runAt.length) runAt = Arrays.copyOf(runAt, Math.max(n, runAt.length * 2));
+
+        for (int i = from; i < n; i++) {
+            if (i < faceDown) runAt[i] = 0;
+            else if (i > faceDown && cards.get(i).isOneLowerSameSuit(cards.get(i - 1))) runAt[i] = runAt[i - 1] + 1;
+            else runAt[i] = 1;
+        }
+    }
+
+
+    // ----- change feed -----
+
+    public long getVersion() { return version; }
+
+
+    public void addListener(PileChange.Listener l) {
+        if (listeners == null) listeners = new ArrayList<>(2);
+        listeners.add(l);
+    }
+
+
+    public void removeListener(PileChange.Listener l) {
+        if (listeners != null) listeners.remove(l);
+    }
+
+
+    private void changed(int change) {
+        int n = cards.size();
+        switch (PileChange.kind(change)) {
+            case PileChange.PUSH -> reindex(n - PileChange.count(change));
+            case PileChange.POP -> reindex(n);
+            default -> reindex(PileChange.index(change));
         }
+
+        version++;
+        if (listeners == null) return;
+        for (int i = 0; i < listeners.size(); i++) listeners.get(i).pileChanged(change, version);
     }
 }
@@ -33,34 +33,20 @@ public class SpiderRules implements GameRules {
     @Override
     public boolean canMove(Pile from, int count, Pile to) {
 
-        if (count <= 0) return false;
+        // The pile keeps the length of its top run, so any count up
+        // to it is a valid face-up, same-suit, descending run
+        if (count <= 0 || count > from.topRunLength()) return false;
         var cards = from.getCards();
-        if (cards.size() < count) return false;
-
-        // Identify the moving run
         int start = cards.size() - count;
 
-        // First card of run must be face-up
-        if (!cards.get(start).isFaceUp()) return false;
-
-        // Validate descending sequence
-        for (int i = start + 1; i < cards.size(); i++) {
-            Card below = cards.get(i - 1);
-            Card above = cards.get(i);
-
-            if (!above.isFaceUp() || !below.isFaceUp()) return false;
-            if (below.getSuit() != above.getSuit()) return false;
-            if (below.getRank() != above.getRank() + 1) return false;
-        }
-
         // Destination rules
         if (to.isEmpty()) return true;
 
+        if (!to.isTopFaceUp()) return false;
+
         Card movingHead = cards.get(start);
         Card destTop    = to.top();
 
-        if (!destTop.isFaceUp()) return false;
-
         return destTop.getRank() == movingHead.getRank() + 1;
     }
 
@@ -0,0 +1,39 @@
+//*********************************************
+// Spider Solitaire – Prototype 2
+// File: DealResult.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Outcome of a single simulated deal
+//
+//*********************************************
+
+package solitaire.spider.sim;
+
+import solitaire.core.DealId;
+
+public class DealResult {
+    private final DealId deal;
+    private final boolean won;
+    private final int moves;
+    private final int score;
+    private final int foundationsFilled;
+
+    public DealResult(DealId deal, boolean won, int moves, int score, int foundationsFilled) {
+        this.deal = deal; this.won = won; this.moves = moves; this.score = score;
+        this.foundationsFilled = foundationsFilled;
+    }
+
+    public DealId getDeal() { return deal; }
+    public boolean isWon() { return won; }
+    public int getMoves() { return moves; }
+    public int getScore() { return score; }
+    public int getFoundationsFilled() { return foundationsFilled; }
+
+    @Override public String toString() {
+        return deal.getNumber() + "," + (won ? "W" : "L") + "," + moves + "," + score + "," + foundationsFilled;
+    }
+}
@@ -0,0 +1,118 @@
+//*********************************************
+// Spider Solitaire – Prototype 2
+// File: GreedyPolicy.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Baseline bot for the simulator
+// Takes the best-scoring productive move, otherwise deals
+// Productive = reveals a card, empties a column,
+// or builds onto the same suit
+//
+//*********************************************
+
+package solitaire.spider.sim;
+
+import java.util.List;
+
+import solitaire.spider.engine.SpiderGame;
+import solitaire.spider.engine.SpiderState;
+import solitaire.spider.model.Card;
+import solitaire.spider.model.Pile;
+
+public class GreedyPolicy implements MovePolicy {
+
+    // Last move, so the bot never undoes itself on the next step
+    private int lastFrom = -1, lastTo = -1, lastCount = 0;
+
+    // Set after filling an empty column, so the fill is not merged straight back
+    private boolean dealPending = false;
+
+    // Reused move buffer
+    private final int[] moves = new int[SpiderState.MAX_MOVES];
+
+    @Override
+    public void newDeal(SpiderGame game) {
+        lastFrom = -1; lastTo = -1; lastCount = 0;
+        dealPending = false;
+    }
+
+    @Override
+    public boolean step(SpiderGame game) {
+        List<Pile> tableaux = game.tableaux;
+        if (dealPending && game.dealRow()) {
+            dealPending = false;
+            lastFrom = -1; lastTo = -1; lastCount = 0;
+            return true;
+        }
+        int bestFrom = -1, bestTo = -1, bestCount = 0, bestScore = 0;
+        int emptyCol = -1;
+        for (int i = 0; i < SpiderGame.TABLEAU_COUNT; i++) if (tableaux.get(i).isEmpty()) emptyCol = i;
+
+        int found = game.generateMoves(moves);
+        for (int i = 0; i < found; i++) {
+            int m = moves[i];
+            if (SpiderState.isDeal(m)) continue;
+            int from = SpiderState.moveFrom(m), count = SpiderState.moveCount(m), to = SpiderState.moveTo(m);
+            Pile src = tableaux.get(from);
+            List<Card> cards = src.getCards();
+            Pile dest = tableaux.get(to);
+
+            if (dest.isEmpty()) {
+                // Only the whole run, and only if it turns over a card
+                int size = cards.size();
+                if (count != game.runLength(from) || size == count || src.isFaceUp(size - count - 1)) continue;
+            }
+            if (from == lastTo && to == lastFrom && count == lastCount) continue;
+
+            int score = scoreMove(src, count, dest);
+            if (score > bestScore) {
+                bestScore = score; bestFrom = from; bestTo = to; bestCount = count;
+            }
+        }
+
+        if (!dealPending && bestFrom >= 0 && game.moveRun(bestFrom, bestCount, bestTo)) {
+            lastFrom = bestFrom; lastTo = bestTo; lastCount = bestCount;
+            return true;
+        }
+
+        if (game.stock.isEmpty()) return false;
+
+        // Fill an empty column with a single card so the stock can be dealt
+        if (emptyCol >= 0) {
+            int donor = -1;
+            for (int i = 0; i < SpiderGame.TABLEAU_COUNT; i++) {
+                int n = tableaux.get(i).getCards().size();
+                if (n > 1 && (donor < 0 || n > tableaux.get(donor).getCards().size())) donor = i;
+            }
+            if (donor < 0 || !game.moveRun(donor, 1, emptyCol)) return false;
+            lastFrom = donor; lastTo = emptyCol; lastCount = 1;
+            dealPending = true;
+            return true;
+        }
+
+        lastFrom = -1; lastTo = -1; lastCount = 0;
+        return game.dealRow();
+    }
+
+    // 0 = not productive
+    private static int scoreMove(Pile src, int count, Pile dest) {
+        List<Card> cards = src.getCards();
+        int size = cards.size();
+        Card head = cards.get(size - count);
+        boolean sameSuit = !dest.isEmpty() && dest.top().getSuit() == head.getSuit();
+
+        int belowIdx = size - count - 1;
+        if (belowIdx < 0) return dest.isEmpty() ? 0 : 50 + (sameSuit ? 20 : 0);
+
+        Card below = cards.get(belowIdx);
+        if (!src.isFaceUp(belowIdx)) return 60 + (sameSuit ? 20 : 0);
+
+        boolean suitedLink = below.getSuit() == head.getSuit() && below.getRank() == head.getRank() + 1;
+        if (sameSuit && !suitedLink) return 30 + count;
+        return 0;
+    }
+}
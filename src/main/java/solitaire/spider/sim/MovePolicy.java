@@ -0,0 +1,29 @@
+//*********************************************
+// Spider Solitaire – Prototype 2
+// File: MovePolicy.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Pluggable move selection for headless play
+// A policy drives a SpiderGame one action at a time
+//
+//*********************************************
+
+package solitaire.spider.sim;
+
+import solitaire.spider.engine.SpiderGame;
+
+public interface MovePolicy {
+
+    /** Called once after each deal, before the first step */
+    default void newDeal(SpiderGame game) {}
+
+    /**
+     * Performs exactly one action (moveRun or dealRow) on the game.
+     * @return false when the policy has nothing left to try
+     */
+    boolean step(SpiderGame game);
+}
@@ -0,0 +1,40 @@
+//*********************************************
+// Spider Solitaire – Prototype 2
+// File: SimSummary.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Aggregate totals for a simulation batch
+//
+//*********************************************
+
+package solitaire.spider.sim;
+
+public class SimSummary {
+    private final long games;
+    private final long wins;
+    private final long totalMoves;
+    private final long elapsedNanos;
+
+    public SimSummary(long games, long wins, long totalMoves, long elapsedNanos) {
+        this.games = games; this.wins = wins; this.totalMoves = totalMoves; this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() { return games; }
+    public long getWins() { return wins; }
+    public long getTotalMoves() { return totalMoves; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override public String toString() {
+        return String.format("%d games, %d wins (%.2f%%), %.1f moves/game, %.0f games/sec",
+                games, wins, games == 0 ? 0.0 : 100.0 * wins / games,
+                games == 0 ? 0.0 : (double) totalMoves / games, getGamesPerSecond());
+    }
+}
@@ -0,0 +1,137 @@
+//*********************************************
+// Spider Solitaire – Prototype 2
+// File: SpiderSimulator.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Headless batch runner for SpiderGame
+// Plays a range of numbered deals (DealId) in parallel on a
+// ForkJoinPool and streams one DealResult per deal to a sink,
+// so any deal in a report can be replayed by its number
+//
+//*********************************************
+
+package solitaire.spider.sim;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import solitaire.core.DealId;
+import solitaire.spider.engine.SpiderGame;
+import solitaire.spider.model.Pile;
+
+public class SpiderSimulator {
+
+    public static final int DEFAULT_MOVE_LIMIT = 1000;
+
+    // Deals per leaf task, each leaf reuses one game and one policy
+    private static final int CHUNK = 256;
+
+    private final int parallelism;
+    private final int moveLimit;
+
+    public SpiderSimulator() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_MOVE_LIMIT);
+    }
+
+    public SpiderSimulator(int parallelism, int moveLimit) {
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism >= 1");
+        if (moveLimit < 1) throw new IllegalArgumentException("moveLimit >= 1");
+        this.parallelism = parallelism;
+        this.moveLimit = moveLimit;
+    }
+
+    /**
+     * Plays deals first to first.plus(count - 1)
+     * @param policies creates one policy per worker task (policies need not be thread-safe)
+     * @param sink receives results from worker threads, in no particular order; must be thread-safe
+     */
+    public SimSummary run(DealId first, long count, boolean oneSuit,
+                          Supplier<? extends MovePolicy> policies,
+                          Consumer<? super DealResult> sink) {
+        LongAdder wins = new LongAdder();
+        LongAdder moves = new LongAdder();
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new Batch(first.getNumber(), first.getNumber() + count, oneSuit, policies, sink, wins, moves));
+        } finally {
+            pool.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new SimSummary(count, wins.sum(), moves.sum(), elapsed);
+    }
+
+    /** Plays a single deal to completion (or the move limit) */
+    public DealResult play(SpiderGame game, MovePolicy policy, DealId deal, boolean oneSuit) {
+        game.newGame(deal, oneSuit);
+        policy.newDeal(game);
+
+        int steps = 0;
+        while (steps < moveLimit && !game.isWin() && policy.step(game)) steps++;
+
+        int filled = 0;
+        for (Pile f : game.foundations) if (!f.isEmpty()) filled++;
+        return new DealResult(deal, game.isWin(), game.getMoveCount(), game.getScore(), filled);
+    }
+
+    // Splits the deal number range until it is small enough to play in one go
+    // (ForkJoin tasks are Serializable, but these are never serialized)
+    @SuppressWarnings("serial")
+    private class Batch extends RecursiveAction {
+        private final long lo, hi;   // deal numbers
+        private final boolean oneSuit;
+        private final Supplier<? extends MovePolicy> policies;
+        private final Consumer<? super DealResult> sink;
+        private final LongAdder wins, moves;
+
+        Batch(long lo, long hi, boolean oneSuit, Supplier<? extends MovePolicy> policies,
+              Consumer<? super DealResult> sink, LongAdder wins, LongAdder moves) {
+            this.lo = lo; this.hi = hi; this.oneSuit = oneSuit;
+            this.policies = policies; this.sink = sink; this.wins = wins; this.moves = moves;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= CHUNK) {
+                SpiderGame game = new SpiderGame();
+                MovePolicy policy = policies.get();
+                long w = 0, m = 0;
+                for (long n = lo; n < hi; n++) {
+                    DealResult r = play(game, policy, DealId.of(n), oneSuit);
+                    if (r.isWon()) w++;
+                    m += r.getMoves();
+                    sink.accept(r);
+                }
+                wins.add(w);
+                moves.add(m);
+                return;
+            }
+            long mid = lo + (hi - lo) / 2;
+            invokeAll(new Batch(lo, mid, oneSuit, policies, sink, wins, moves),
+                      new Batch(mid, hi, oneSuit, policies, sink, wins, moves));
+        }
+    }
+
+    // Usage: SpiderSimulator [firstDeal] [count] [oneSuit] [threads]
+    // firstDeal is a deal number, "1234" or "#1234"
+    // Prints the summary only; pass a real sink from code to keep per-deal results
+    public static void main(String[] args) {
+        DealId first = args.length > 0 ? DealId.parse(args[0]) : DealId.of(0);
+        long count = args.length > 1 ? Long.parseLong(args[1]) : 100_000;
+        boolean oneSuit = args.length <= 2 || Boolean.parseBoolean(args[2]);
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        SpiderSimulator sim = new SpiderSimulator(threads, DEFAULT_MOVE_LIMIT);
+        SimSummary summary = sim.run(first, count, oneSuit, GreedyPolicy::new, r -> {});
+        System.out.println(summary);
+    }
+}
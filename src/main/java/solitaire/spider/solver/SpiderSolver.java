@@ -0,0 +1,365 @@
+//*********************************************
+// Spider Solitaire – Prototype 2
+// File: SpiderSolver.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Beam search for a winning Spider line
+// Works on packed SpiderState copies, one layer at a time:
+// every position in the beam is expanded, new positions are
+// scored by a heuristic and only the best beamWidth survive
+// A seen set of position keys drops duplicates across layers
+// and the beam is widened and retried when it runs dry
+// One instance is not thread-safe; use one per worker
+//
+//*********************************************
+
+package solitaire.spider.solver;
+
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+import solitaire.core.HintService;
+import solitaire.core.LongHashSet;
+import solitaire.core.WinnableCatalogue;
+import solitaire.spider.engine.SpiderGame;
+import solitaire.spider.engine.SpiderState;
+
+public class SpiderSolver {
+    public static final int DEFAULT_BEAM_WIDTH = 1024;
+    public static final long DEFAULT_NODE_LIMIT = 200_000;
+    public static final long DEFAULT_TIME_LIMIT_MILLIS = 5_000;
+    public static final int DEFAULT_SEEN_BITS = 22;   // 32 MB
+    public static final int MAX_DEPTH = 2_000;
+
+    // Heuristic weights
+    private static final int W_COMPLETED = 1000;
+    private static final int W_SUITED_LINK = 10;
+    private static final int W_LINK = 3;
+    private static final int W_FACE_DOWN = -20;
+    private static final int W_EMPTY = 40;
+    private static final int W_STOCK_CARD = -3;
+
+    private final int beamWidth;
+    private final long nodeLimit;
+    private final long timeLimitNanos;
+    private final LongHashSet seen;
+
+    // Current and next beam, each slot remembers its move record
+    private final SpiderState[] beam;
+    private final SpiderState[] next;
+    private final int[] beamRecord;
+    private final int[] nextParent;
+    private final int[] nextMove;
+    private final int[] nextScore;
+    private final int[] heap;   // slots of next, min score at the root
+    private int heapSize;
+
+    // Move records: parent record and move that led here, record 0 is the root
+    private int[] recParent = new int[1024];
+    private int[] recMove = new int[1024];
+    private int recCount;
+    private int lastRecord;
+
+    // Counters for the current solve call
+    private long nodes;
+    private long peak;
+
+    // Appended to a hint that starts a proven winning line
+    public static final String WINS = " (wins)";
+
+    // Set while a hint search runs
+    private HintService.Sink hintSink;
+    private BooleanSupplier hintStop;
+    private int hintScore;
+
+    private final int[] moveBuf = new int[SpiderState.MAX_MOVES];
+    private final SpiderState child = new SpiderState();
+
+    public SpiderSolver() {
+        this(DEFAULT_BEAM_WIDTH, DEFAULT_NODE_LIMIT, DEFAULT_TIME_LIMIT_MILLIS, DEFAULT_SEEN_BITS);
+    }
+
+    public SpiderSolver(int beamWidth, long nodeLimit, long timeLimitMillis, int seenBits) {
+        if (beamWidth < 1) throw new IllegalArgumentException("beamWidth >= 1");
+        this.beamWidth = beamWidth;
+        this.nodeLimit = nodeLimit;
+        this.timeLimitNanos = timeLimitMillis * 1_000_000L;
+        this.seen = new LongHashSet(seenBits);
+
+        beam = new SpiderState[beamWidth];
+        next = new SpiderState[beamWidth];
+        for (int i = 0; i < beamWidth; i++) {
+            beam[i] = new SpiderState();
+            next[i] = new SpiderState();
+        }
+        beamRecord = new int[beamWidth];
+        nextParent = new int[beamWidth];
+        nextMove = new int[beamWidth];
+        nextScore = new int[beamWidth];
+        heap = new int[beamWidth];
+    }
+
+    public SpiderSolverResult solve(SpiderGame game) {
+        return solve(game.saveState());
+    }
+
+    // Runs passes with a growing beam: a narrow beam is fast but can run
+    // dry, so each EXHAUSTED pass is retried twice as wide until the full
+    // beamWidth has been tried or the budget runs out
+    public SpiderSolverResult solve(SpiderState start) {
+        long t0 = System.nanoTime();
+        long deadline = t0 + timeLimitNanos;
+        nodes = 0;
+        peak = 0;
+
+        int width = Math.max(1, beamWidth >> 3);
+        while (true) {
+            SpiderSolverResult.Status status = search(start, width, deadline);
+            if (status != SpiderSolverResult.Status.EXHAUSTED || width == beamWidth) {
+                return result(status, status == SpiderSolverResult.Status.SOLVED ? lastRecord : -1, t0);
+            }
+            width = Math.min(beamWidth, width * 2);
+        }
+    }
+
+    /**
+     * Anytime hint from a position: runs the usual widening search and,
+     * after each layer whose best line scores higher than any reported
+     * so far, reports that line's first move; a win is reported last,
+     * its text ending in WINS.
+     * Returns when the search ends or stop says true.
+     */
+    public void hint(SpiderState start, HintService.Sink sink, BooleanSupplier stop) {
+        hintSink = sink;
+        hintStop = stop;
+        hintScore = Integer.MIN_VALUE;
+        try {
+            SpiderSolverResult r = solve(start);
+            if (r.getStatus() == SpiderSolverResult.Status.SOLVED && r.getMoves().length > 0) {
+                int m = r.getMoves()[0];
+                sink.found(m, SpiderSolverResult.describe(m) + WINS);
+            }
+        } finally {
+            hintSink = null;
+            hintStop = null;
+        }
+    }
+
+    private SpiderSolverResult.Status search(SpiderState start, int width, long deadline) {
+        seen.clear();
+        recCount = 1;
+        recParent[0] = -1;
+        lastRecord = 0;
+        beam[0].copyFrom(start);
+        beamRecord[0] = 0;
+        int beamSize = 1;
+        seen.add(start.key());
+
+        if (start.isWin()) return SpiderSolverResult.Status.SOLVED;
+
+        for (int depth = 0; depth < MAX_DEPTH; depth++) {
+            heapSize = 0;
+
+            for (int b = 0; b < beamSize; b++) {
+                SpiderState s = beam[b];
+                if (++nodes > nodeLimit || System.nanoTime() > deadline
+                        || (hintStop != null && hintStop.getAsBoolean())) return SpiderSolverResult.Status.BUDGET;
+
+                int n = s.generateMoves(moveBuf);
+                for (int i = 0; i < n; i++) {
+                    int m = moveBuf[i];
+                    if (!worthTrying(s, m)) continue;
+                    if (seen.isFull()) return SpiderSolverResult.Status.BUDGET;
+                    child.copyFrom(s);
+                    child.apply(m);
+                    if (!seen.add(child.key())) continue;
+
+                    if (child.isWin()) {
+                        lastRecord = addRecord(beamRecord[b], m);
+                        return SpiderSolverResult.Status.SOLVED;
+                    }
+                    offer(child, evaluate(child), beamRecord[b], m, width);
+                }
+            }
+
+            if (heapSize == 0) return SpiderSolverResult.Status.EXHAUSTED;
+
+            // Survivors become the next beam
+            for (int i = 0; i < heapSize; i++) {
+                int slot = heap[i];
+                beam[i].copyFrom(next[slot]);
+                beamRecord[i] = addRecord(nextParent[slot], nextMove[slot]);
+            }
+            beamSize = heapSize;
+            peak = Math.max(peak, memoryBytes());
+            if (hintSink != null) reportBest();
+        }
+        return SpiderSolverResult.Status.BUDGET;
+    }
+
+    // Prune moves that cannot improve anything:
+    // - a whole column to an empty one
+    // - lifting a run off a card it already follows, unless the new
+    //   parent matches its suit and the old one did not
+    private static boolean worthTrying(SpiderState s, int m) {
+        if (SpiderState.isDeal(m)) return true;
+        int from = SpiderState.moveFrom(m), count = SpiderState.moveCount(m), to = SpiderState.moveTo(m);
+        int size = s.size(from);
+        if (s.size(to) == 0) return size > count;
+        if (size == count) return true;
+        byte head = s.card(from, size - count);
+        byte below = s.card(from, size - count - 1);
+        if (!SpiderState.isFaceUp(below) || SpiderState.rankOf(below) != SpiderState.rankOf(head) + 1) return true;
+        int suit = SpiderState.suitOf(head);
+        return SpiderState.suitOf(below) != suit && SpiderState.suitOf(s.top(to)) == suit;
+    }
+
+    /** Position heuristic, higher is better */
+    public static int evaluate(SpiderState s) {
+        int v = 0;
+        for (int f = SpiderState.FOUNDATION_BASE; f < SpiderState.STOCK; f++) {
+            if (s.size(f) > 0) v += W_COMPLETED;
+        }
+        for (int t = 0; t < SpiderGame.TABLEAU_COUNT; t++) {
+            int size = s.size(t);
+            if (size == 0) { v += W_EMPTY; continue; }
+            byte prev = 0;
+            for (int i = 0; i < size; i++) {
+                byte c = s.card(t, i);
+                if (!SpiderState.isFaceUp(c)) {
+                    v += W_FACE_DOWN;
+                } else if (i > 0 && SpiderState.isFaceUp(prev)
+                        && SpiderState.rankOf(prev) == SpiderState.rankOf(c) + 1) {
+                    v += SpiderState.suitOf(prev) == SpiderState.suitOf(c) ? W_SUITED_LINK : W_LINK;
+                }
+                prev = c;
+            }
+        }
+        return v + W_STOCK_CARD * s.size(SpiderState.STOCK);
+    }
+
+    // Bounded min-heap of candidates for the next beam
+    private void offer(SpiderState s, int score, int parentRecord, int move, int width) {
+        boolean grow = heapSize < width;
+        int slot = grow ? heapSize : heap[0];
+        if (!grow && score <= nextScore[slot]) return;
+
+        next[slot].copyFrom(s);
+        nextScore[slot] = score;
+        nextParent[slot] = parentRecord;
+        nextMove[slot] = move;
+
+        if (grow) {
+            heap[heapSize] = slot;
+            siftUp(heapSize++);
+        } else {
+            siftDown(0);
+        }
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (nextScore[heap[p]] <= nextScore[heap[i]]) break;
+            swap(i, p);
+            i = p;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int l = 2 * i + 1, r = l + 1, m = i;
+            if (l < heapSize && nextScore[heap[l]] < nextScore[heap[m]]) m = l;
+            if (r < heapSize && nextScore[heap[r]] < nextScore[heap[m]]) m = r;
+            if (m == i) return;
+            swap(i, m);
+            i = m;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int t = heap[i]; heap[i] = heap[j]; heap[j] = t;
+    }
+
+    // Hint: first move of the best survivor, if it beats the last one reported
+    private void reportBest() {
+        int best = 0;
+        for (int i = 1; i < heapSize; i++) {
+            if (nextScore[heap[i]] > nextScore[heap[best]]) best = i;
+        }
+        int score = nextScore[heap[best]];
+        if (score <= hintScore) return;
+        hintScore = score;
+        int r = beamRecord[best];
+        while (recParent[r] > 0) r = recParent[r];
+        hintSink.found(recMove[r], SpiderSolverResult.describe(recMove[r]));
+    }
+
+    private int addRecord(int parent, int move) {
+        if (recCount == recParent.length) {
+            recParent = Arrays.copyOf(recParent, recCount * 2);
+            recMove = Arrays.copyOf(recMove, recCount * 2);
+        }
+        recParent[recCount] = parent;
+        recMove[recCount] = move;
+        return recCount++;
+    }
+
+    private long memoryBytes() {
+        return seen.memoryBytes() + 8L * recParent.length + 2L * beamWidth * (SpiderState.TOTAL_CARDS + 64);
+    }
+
+    private SpiderSolverResult result(SpiderSolverResult.Status status, int record, long t0) {
+        int len = 0;
+        for (int r = record; r > 0; r = recParent[r]) len++;
+        int[] line = new int[len];
+        for (int r = record, i = len - 1; r > 0; r = recParent[r]) line[i--] = recMove[r];
+        return new SpiderSolverResult(status, line, nodes, System.nanoTime() - t0, Math.max(peak, memoryBytes()));
+    }
+
+    /** Plays a solver line on the game; false at the first move the engine rejects */
+    public static boolean replay(SpiderGame game, int[] moves) {
+        for (int m : moves) {
+            boolean ok = SpiderState.isDeal(m) ? game.dealRow()
+                    : game.moveRun(SpiderState.moveFrom(m), SpiderState.moveCount(m), SpiderState.moveTo(m));
+            if (!ok) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checker for WinnableCatalogue: solves each deal from the start under a time budget.
+     * Beam search cannot prove a deal unwinnable, so EXHAUSTED is UNKNOWN like
+     * BUDGET: nothing goes into the catalogue's permanent unwinnable filter
+     */
+    public static WinnableCatalogue.Checker checker(boolean oneSuit, long budgetMillis) {
+        SpiderSolver solver = new SpiderSolver(DEFAULT_BEAM_WIDTH, DEFAULT_NODE_LIMIT, budgetMillis, DEFAULT_SEEN_BITS);
+        SpiderGame game = new SpiderGame();
+        return deal -> {
+            game.newGame(deal, oneSuit);
+            return switch (solver.solve(game).getStatus()) {
+                case SOLVED -> WinnableCatalogue.Verdict.WINNABLE;
+                case EXHAUSTED, BUDGET -> WinnableCatalogue.Verdict.UNKNOWN;
+            };
+        };
+    }
+
+    // Usage: SpiderSolver [firstSeed] [count] [oneSuit] [beamWidth]
+    public static void main(String[] args) {
+        long first = args.length > 0 ? Long.parseLong(args[0]) : 0;
+        long count = args.length > 1 ? Long.parseLong(args[1]) : 20;
+        boolean oneSuit = args.length <= 2 || Boolean.parseBoolean(args[2]);
+        int width = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_BEAM_WIDTH;
+
+        SpiderSolver solver = new SpiderSolver(width, DEFAULT_NODE_LIMIT, DEFAULT_TIME_LIMIT_MILLIS, DEFAULT_SEEN_BITS);
+        SpiderGame game = new SpiderGame();
+        for (long seed = first; seed < first + count; seed++) {
+            game.newGame(seed, oneSuit);
+            System.out.println("seed " + seed + ": " + solver.solve(game));
+        }
+    }
+}
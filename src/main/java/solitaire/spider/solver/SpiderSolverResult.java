@@ -0,0 +1,60 @@
+//*********************************************
+// Spider Solitaire – Prototype 2
+// File: SpiderSolverResult.java
+//
+// Author: Indy Hinton
+// Course: CPT-237-W38 Java Programming II
+// Semester: Fall 2025
+//
+// Description:
+// Outcome of a SpiderSolver search
+// Moves use the SpiderState move encoding
+//
+//*********************************************
+
+package solitaire.spider.solver;
+
+import solitaire.spider.engine.SpiderState;
+
+public class SpiderSolverResult {
+    public enum Status {
+        SOLVED,     // winning line found
+        EXHAUSTED,  // beam ran out of new positions (not a proof of loss)
+        BUDGET      // node/time/memory budget hit first
+    }
+
+    private final Status status;
+    private final int[] moves;
+    private final long nodesExpanded;
+    private final long elapsedNanos;
+    private final long peakMemoryBytes;
+
+    public SpiderSolverResult(Status status, int[] moves, long nodesExpanded, long elapsedNanos, long peakMemoryBytes) {
+        this.status = status; this.moves = moves; this.nodesExpanded = nodesExpanded;
+        this.elapsedNanos = elapsedNanos; this.peakMemoryBytes = peakMemoryBytes;
+    }
+
+    public Status getStatus() { return status; }
+    public int[] getMoves() { return moves; }
+    public long getNodesExpanded() { return nodesExpanded; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    // Bytes held by the solver's own tables (seen set, beam, move records)
+    public long getPeakMemoryBytes() { return peakMemoryBytes; }
+
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodesExpanded * 1e9 / elapsedNanos;
+    }
+
+    public static String describe(int move) {
+        if (SpiderState.isDeal(move)) return "deal";
+        return SpiderState.moveCount(move) + " from S" + (SpiderState.moveFrom(move) + 1)
+                + " -> S" + (SpiderState.moveTo(move) + 1);
+    }
+
+    @Override public String toString() {
+        return String.format("%s in %d moves, %d nodes, %.1f ms, %.0f nodes/sec, %.1f MB",
+                status, moves.length, nodesExpanded, elapsedNanos / 1e6, getNodesPerSecond(),
+                peakMemoryBytes / (1024.0 * 1024.0));
+    }
+}
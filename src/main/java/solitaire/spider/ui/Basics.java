@@ -66,16 +66,9 @@ public class Basics {
         c.setMinSize(64, 90);
         c.setMaxSize(64, 90);
         c.setPrefSize(64, 90);
-        c.setStyle("""
-        -fx-background-color: white;
-        -fx-border-color: #b5b5b5;
-        -fx-background-radius: 8;
-        -fx-border-radius: 8;
-        -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.15), 6, 0, 0, 2);
-    """);
+        c.getStyleClass().add("card");
 
         Label center = new Label(text);
-        center.setStyle("-fx-font-size: 16px; -fx-font-weight: bold;");
 
         // Themed text color
         boolean isRed = text.contains("♥") || text.contains("♦");
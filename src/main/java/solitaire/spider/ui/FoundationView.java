@@ -19,11 +19,13 @@ import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import solitaire.core.ThemeManager;
 import solitaire.spider.model.Pile;
 
 public class FoundationView extends VBox {
     private final Pile pile;
     private final String label;
+    private int shownSize = -1;
 
     public FoundationView(Pile pile, String label) {
         this.pile = pile;
@@ -41,28 +43,24 @@ public class FoundationView extends VBox {
     }
 
     public void refresh() {
+        // Only the card count is shown, so nothing to do if it is the same
+        int size = pile.getCards().size();
+        if (size == shownSize) return;
+        shownSize = size;
+
         getChildren().clear();
 
         if (pile.getCards().isEmpty()) {
-            StackPane slot = Basics.card(" ");
+            StackPane slot = new StackPane();
             slot.setMinSize(64, 90);
             slot.setMaxSize(64, 90);
-            slot.setStyle("""
-                -fx-background-color: transparent;
-                -fx-border-color: rgba(255,255,255,0.25);
-                -fx-border-radius: 8;
-            """);
+            slot.getStyleClass().add("card-slot");
             getChildren().add(slot);
         } else {
+            // Themed card face with the check mark (foundation-done in the stylesheets)
             StackPane card = Basics.card("✓");
-            card.setStyle("""
-                -fx-background-color: white;
-                -fx-border-color: #b5b5b5;
-                -fx-background-radius: 8; -fx-border-radius: 8;
-                -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.15), 6, 0, 0, 2);
-            """);
-            ((Label) card.getChildren().get(0))
-                    .setStyle("-fx-font-weight: 700; -fx-font-size: 18px; -fx-text-fill: #22863a;");
+            ThemeManager.styleCardFace(card);
+            card.getStyleClass().add("foundation-done");
             getChildren().add(card);
 
             // Show how many cards are in foundation
@@ -22,7 +22,11 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import solitaire.spider.model.Card;
 import solitaire.spider.model.Pile;
+import solitaire.spider.model.Suit;
+import solitaire.core.CardAtlas;
 import solitaire.core.ThemeManager;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.IntConsumer;
 
 public class PileView extends VBox {
@@ -30,6 +34,15 @@ public class PileView extends VBox {
     private final String label;
     public IntConsumer onCardClicked;
 
+    // Indexed by Suit ordinal
+    private static final String[] SUIT_SYMBOLS = { "♠", "♥", "♦", "♣" };
+    private static final CardAtlas ATLAS = new CardAtlas(PileView::buildCard, 64, 90);
+
+    // What each card node currently shows, index for index
+    private final List<Card> drawn = new ArrayList<>();
+    private final List<Boolean> drawnFaceUp = new ArrayList<>();
+    private final StackPane emptySlot = emptySlot();
+
 
     public PileView(Pile pile, String label) {
         this.pile = pile;
@@ -46,16 +59,33 @@ public class PileView extends VBox {
         refresh();
     }
 
+    // Refreshes by reconciling the card nodes with the pile
+    // Nodes below the first changed card are kept as they are,
+    // so a move only touches the cards it lifted or turned over
     public void refresh() {
-        getChildren().clear();
+        List<Card> cards = pile.getCards();
+
+        // Length of the unchanged bottom part
+        int keep = 0;
+        int limit = Math.min(cards.size(), drawn.size());
+        while (keep < limit
+                && cards.get(keep) == drawn.get(keep)
+                && pile.isFaceUp(keep) == drawnFaceUp.get(keep)) {
+            keep++;
+        }
+
+        // Drop stale nodes (and the empty slot, if showing)
+        getChildren().remove(keep, getChildren().size());
+        drawn.subList(keep, drawn.size()).clear();
+        drawnFaceUp.subList(keep, drawnFaceUp.size()).clear();
 
         // draw cards
         // Updated 12/1/25: Fixed highlight to selected card, not just bottom?
-        for (int i = 0; i < pile.getCards().size(); i++) {
+        for (int i = keep; i < cards.size(); i++) {
             final int cardIndex = i;
-            Card c = pile.getCards().get(i);
+            Card c = cards.get(i);
 
-            StackPane cardNode = cardNodeFor(c);
+            StackPane cardNode = cardNodeFor(c, pile.isFaceUp(i));
             cardNode.setTranslateY(i * -10);
 
             cardNode.setOnMouseClicked(e ->
@@ -63,51 +93,57 @@ public class PileView extends VBox {
             );
 
             getChildren().add(cardNode);
+            drawn.add(c);
+            drawnFaceUp.add(pile.isFaceUp(i));
         }
 
-
         // Empty pile placeholder
         // Updated 11-9-25 to match green background
-        if (pile.getCards().isEmpty()) {
-            StackPane slot = new StackPane();
-            slot.setMinSize(64, 90);
-            slot.setMaxSize(64, 90);
-            slot.setStyle("""
-                 -fx-background-color: transparent;
-                 -fx-border-color: rgba(255,255,255,0.25);
-                 -fx-border-radius: 8;
-            """);
-            getChildren().add(slot);
+        if (cards.isEmpty()) {
+            getChildren().add(emptySlot);
         }
     }
 
+    // Throws away every node and draws the pile again (e.g. after a theme change)
+    public void redraw() {
+        getChildren().clear();
+        drawn.clear();
+        drawnFaceUp.clear();
+        refresh();
+    }
+
+    private static StackPane emptySlot() {
+        StackPane slot = new StackPane();
+        slot.setMinSize(64, 90);
+        slot.setMaxSize(64, 90);
+        slot.getStyleClass().add("card-slot");
+        return slot;
+    }
+
     // Updated to build more realistic cards with suits/colors
-    private StackPane cardNodeFor(Card c) {
-        if (!c.isFaceUp()) {
-            return faceDownCard();
-        }
-        return faceUpCard(c);
+    // Cards come from the atlas as images; the builders below are
+    // only run once per card per theme to render them
+    private StackPane cardNodeFor(Card c, boolean faceUp) {
+        return ATLAS.node(c.getRank(), c.getSuit().ordinal(), faceUp);
+    }
+
+    private static StackPane buildCard(int rank, int suit, boolean faceUp) {
+        return faceUp ? faceUpCard(rank, suit) : faceDownCard();
     }
 
-    private StackPane faceDownCard() {
+    private static StackPane faceDownCard() {
         StackPane back = new StackPane();
         back.setMinSize(64, 90);
         back.setMaxSize(64, 90);
-        back.setStyle("""
-            -fx-background-color: linear-gradient(#2456a6,#123269);
-            -fx-border-color: #0d2247;
-            -fx-background-radius: 8; -fx-border-radius: 8;
-            -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.25), 6, 0, 0, 2);
-        """);
+        back.getStyleClass().add("card-back");
         Label dots = new Label("🕷");
-        dots.setStyle("-fx-text-fill: rgba(255,255,255,0.85); -fx-font-size: 20px;");
         back.getChildren().add(dots);
         return back;
     }
 
-    private StackPane faceUpCard(Card c) {
-        String rank = rankToText(c.getRank());
-        String suit = suitToSymbol(c);
+    private static StackPane faceUpCard(int r, int s) {
+        String rank = rankToText(r);
+        String suit = SUIT_SYMBOLS[s];
 
         StackPane root = new StackPane();
         root.setMinSize(64, 90);
@@ -116,8 +152,7 @@ public class PileView extends VBox {
         // Themed card face style
         ThemeManager.styleCardFace(root);
 
-        boolean isRed = (c.getSuit().name().equals("HEARTS") ||
-                c.getSuit().name().equals("DIAMONDS"));
+        boolean isRed = s == Suit.HEARTS.ordinal() || s == Suit.DIAMONDS.ordinal();
 
         // --- Top left ---
         Label tlRank = new Label(rank);
@@ -149,7 +184,7 @@ public class PileView extends VBox {
     // The top (visible) card node or null if empty
     public StackPane getTopCardNode() {
         if (pile.getCards().isEmpty()) return null;
-        // children: [0] = title label, then cards/slot
+        // children: one node per card, bottom first
         var last = getChildren().get(getChildren().size() - 1);
         if (last instanceof StackPane sp) {
             return sp;
@@ -157,7 +192,7 @@ public class PileView extends VBox {
         return null;
     }
 
-    private String rankToText(int r) {
+    private static String rankToText(int r) {
         return switch (r) {
             case 1 -> "A";
             case 11 -> "J";
@@ -167,13 +202,9 @@ public class PileView extends VBox {
         };
     }
 
-    private String suitToSymbol(Card c) {
-        return switch (c.getSuit()) {
-            case SPADES -> "♠";
-            case HEARTS -> "♥";
-            case DIAMONDS -> "♦";
-            case CLUBS -> "♣";
-        };
+    // Shared with the canvas board so both draw the same card images
+    static CardAtlas atlas() {
+        return ATLAS;
     }
 
     public Pile getPile() {
@@ -22,7 +22,12 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
 
+import solitaire.core.CanvasBoard;
+import solitaire.core.Zobrist;
 import solitaire.spider.engine.SpiderGame;
+import solitaire.spider.model.Card;
+import solitaire.spider.model.Pile;
+import java.util.ArrayList;
 import java.util.List;
 
 public class SpiderBoardFactory {
@@ -76,4 +81,37 @@ public class SpiderBoardFactory {
 
         return root;
     }
+
+    // Canvas backend: the same board drawn on one CanvasBoard
+    // Pile order is tableau 0-9, foundations 10-17, stock 18
+    public static CanvasBoard buildCanvas(SpiderGame game) {
+        List<Pile> piles = new ArrayList<>(game.tableaux);
+        piles.addAll(game.foundations);
+        piles.add(game.stock);
+
+        CanvasBoard.Source source = new CanvasBoard.Source() {
+            @Override public int pileCount() { return piles.size(); }
+            @Override public int size(int pile) { return piles.get(pile).getCards().size(); }
+            @Override public int card(int pile, int index) {
+                Pile p = piles.get(pile);
+                Card c = p.getCards().get(index);
+                return Zobrist.code(c.getRank(), c.getSuit().ordinal(), p.isFaceUp(index));
+            }
+        };
+
+        // Cards centred in 90px slots, as in the node layout
+        double step = 90 + 18;
+        double width = 2 * 32 + SpiderGame.TABLEAU_COUNT * step - 18;
+        CanvasBoard board = new CanvasBoard(source, PileView.atlas(), width, 700);
+        for (int col = 0; col < SpiderGame.TABLEAU_COUNT; col++) {
+            board.addPile(32 + 13 + col * step, 140, true);
+        }
+        for (int i = 0; i < SpiderGame.FOUNDATION_COUNT; i++) {
+            board.addPile(32 + 13 + (i + 1) * 102, 20, false);
+        }
+        board.addPile(32 + 13, 20, false);
+
+        board.redraw();
+        return board;
+    }
 }
@@ -16,6 +16,7 @@
 package solitaire.spider.ui;
 
 import javafx.animation.*;
+import javafx.application.Platform;
 import javafx.geometry.Point2D;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ScrollPane;
@@ -27,13 +28,20 @@ import java.util.List;
 import javafx.scene.control.Label;
 
 
+import solitaire.spider.engine.GameSnapshot;
 import solitaire.spider.engine.SpiderGame;
+import solitaire.spider.engine.SpiderState;
+import solitaire.spider.solver.SpiderSolver;
 import solitaire.spider.model.Card;
+import solitaire.core.CanvasBoard;
+import solitaire.core.DealId;
 import solitaire.core.GameEvents;
+import solitaire.core.HintService;
+import solitaire.core.PulseFlusher;
 import solitaire.core.ThemeManager;
 
 public class SpiderController {
-    private SpiderGame game = new SpiderGame();
+    private final SpiderGame game = new SpiderGame();
     private final List<PileView> pileViews = new ArrayList<>();
     private final List<FoundationView> foundationViews = new ArrayList<>();
     private final List<StockView> stockViews = new ArrayList<>();
@@ -43,6 +51,32 @@ public class SpiderController {
     private final GameEvents events;
     private StackPane selectedCardNode = null;
 
+    // Set -Dsolitaire.canvas=true to draw the board on one Canvas
+    private static final boolean USE_CANVAS = Boolean.getBoolean("solitaire.canvas");
+    private CanvasBoard canvas = null;
+
+    // Redraws the piles the engine marked dirty, at most once per frame
+    private final PulseFlusher flusher = new PulseFlusher(() -> game.takeDirty(), this::redrawPiles);
+
+    // Hints search a copy of the position on their own thread;
+    // the solver is made on first use and only touched there
+    // A move starts a search on the position it leads to while it
+    // animates, so a hint asked for afterwards is usually ready;
+    // that guess stops when the animation does, and only keeps
+    // improving once the player presses Hint
+    private final HintService hints = new HintService("spider", Platform::runLater);
+    private static final int HINT_SEEN_BITS = 20;   // 8 MB
+    private static final int NO_MOVE = -1;
+    private static final int MOVE_MILLIS = 220;   // move animation, also the cap on a guessed hint
+    private SpiderSolver hintSolver = null;
+    private boolean hintRunning = false;   // hints is searching the position shown (or landing)
+    private boolean hintWanted = false;    // player asked: show results as they come
+    private int hintMove = NO_MOVE;
+    private String hintText = null;        // latest result, null until one comes
+    private GameSnapshot hintPosition;     // what the search started from, to run it again
+    private int hintAfter = NO_MOVE;
+    private StackPane hintCardNode = null;
+
     public javafx.scene.Node createSpiderBoard() {
         pileViews.clear();
         foundationViews.clear();
@@ -53,18 +87,27 @@ public class SpiderController {
 
         // Build the base board
         // Stack overlay on top for animations
-        Pane board = SpiderBoardFactory.build(game, pileViews, foundationViews, stockViews);
+        javafx.scene.Node board;
+        if (USE_CANVAS) {
+            canvas = SpiderBoardFactory.buildCanvas(game);
+            canvas.setOnPileClicked((pile, cardIndex) -> {
+                if (pile < SpiderGame.TABLEAU_COUNT) handleClick(pile);
+            });
+            board = canvas;
+        } else {
+            board = SpiderBoardFactory.build(game, pileViews, foundationViews, stockViews);
+        }
         boardRoot = new StackPane(board, overlay);
         ThemeManager.applyBackground(boardRoot);
 
         // Add scroll bars
         // Temporary solution until flexible is solved
         // Updated 11-9-25 to green "felt" background
+        // Background now comes from the theme's .board style class
         ScrollPane sp = new ScrollPane(boardRoot);
         sp.setFitToWidth(true);
         sp.setFitToHeight(true);
         sp.setPannable(true);
-        sp.setStyle("-fx-background: #325b3b; -fx-background-color: #325b3b;");
 
         refreshAll();
         wireClicks();
@@ -72,10 +115,21 @@ public class SpiderController {
         return sp;
     }
 
-    public void onNewGame() {
-        game = new SpiderGame();
+    // Deals again into the board already built; no views are created
+    // False while a move is animating (the caller can rebuild instead)
+    public boolean onNewGame(DealId deal) {
+        if (animating) return false;
+        stopHint();
+        if (selectedCardNode != null) selectedCardNode.getStyleClass().remove("selected");
+        if (canvas != null) canvas.select(-1, -1);
+        selectedFrom = null;
+        selectedCardNode = null;
+
+        // Same Pile objects as before, so the views stay bound to them
+        game.newGame(deal, true);
         refreshAll();
-        events.onReset();
+        if (events != null) events.onReset();
+        return true;
     }
 
     // Updated 11/19/25 to connect move and score to HUD
@@ -90,6 +144,7 @@ public class SpiderController {
         }
 
         // Attempt to deal
+        stopHint();
         boolean ok = game.dealRow();
         if (!ok) {
             new Alert(Alert.AlertType.WARNING,
@@ -98,8 +153,8 @@ public class SpiderController {
             return false;
         }
 
-        game.extractCompletedRuns();
-        refreshAll();
+        // dealRow already took out any completed runs
+        flusher.request();
 
         if (events != null) {
             events.onMove();
@@ -115,18 +170,116 @@ public class SpiderController {
     }
 
     public void onUndo() {
+        stopHint();
         if (game.undo()) {
-            refreshAll();
+            flusher.request();
+        }
+    }
+
+    // The stylesheet swap restyles plain nodes; card images are
+    // baked per theme, so the piles draw theirs again
+    public void onThemeChanged() {
+        pileViews.forEach(PileView::redraw);
+        if (canvas != null) canvas.refresh();
+    }
+
+    // Best move found within the hint budget, improved while the player thinks
+    // Uses the search the last move started, if it is still current
+    public void onHint() {
+        if (!hintRunning) {
+            if (animating) return;
+            startHint(game.snapshot(), NO_MOVE, HintService.DEFAULT_IDLE_MILLIS);
+        } else if (!hints.extend(HintService.DEFAULT_IDLE_MILLIS)) {
+            // The guess already stopped: search again, showing it meanwhile
+            int move = hintMove;
+            String text = hintText;
+            startHint(hintPosition, hintAfter, HintService.DEFAULT_IDLE_MILLIS);
+            hintMove = move;
+            hintText = text;
         }
+        hintWanted = true;
+        if (hintText != null) showHint();
+    }
+
+    // The position is about to change: drop the search and what it showed
+    public void stopHint() {
+        hints.cancel();
+        hintRunning = false;
+        hintWanted = false;
+        hintText = null;
+        clearHintMark();
+        if (events != null) events.onHint(null);
+    }
+
+    // Searches the position after move (NO_MOVE: the snapshot itself)
+    // for up to idleMillis
+    // Unpacking and the search happen on the hint thread; results are
+    // kept until wanted
+    private void startHint(GameSnapshot position, int move, long idleMillis) {
+        if (hintSolver == null) {
+            hintSolver = new SpiderSolver(SpiderSolver.DEFAULT_BEAM_WIDTH, Long.MAX_VALUE,
+                    HintService.DEFAULT_IDLE_MILLIS, HINT_SEEN_BITS);
+        }
+        SpiderSolver solver = hintSolver;
+        hintPosition = position;
+        hintAfter = move;
+        hints.request((sink, stop) -> {
+            SpiderState start = position.toState();
+            if (move != NO_MOVE) start.apply(move);
+            if (start.generateMoves(new int[SpiderState.MAX_MOVES]) == 0) {
+                if (!start.isWin()) sink.found(NO_MOVE, "no moves left");
+                return;
+            }
+            solver.hint(start, sink, stop);
+        }, HintService.DEFAULT_BUDGET_MILLIS, idleMillis, this::hintFound);
+        hintRunning = true;
+        hintText = null;
+    }
+
+    private void hintFound(int move, String text) {
+        hintMove = move;
+        hintText = text;
+        if (hintWanted) showHint();
+    }
+
+    // The source card is outlined once no animation is moving cards
+    // (redrawPiles calls this again when one lands)
+    private void showHint() {
+        clearHintMark();
+        if (!animating && canvas == null && hintMove != NO_MOVE && !SpiderState.isDeal(hintMove)) {
+            hintCardNode = pileViews.get(SpiderState.moveFrom(hintMove)).getTopCardNode();
+            if (hintCardNode != null) hintCardNode.getStyleClass().add("hint");
+        }
+        if (events != null) events.onHint(hintText);
+    }
+
+    private void clearHintMark() {
+        if (hintCardNode != null) hintCardNode.getStyleClass().remove("hint");
+        hintCardNode = null;
     }
 
     public int getMoveCount() { return game.getMoveCount(); }
     public int getScore()     { return game.getScore(); }
 
+    // Redraws everything now, e.g. for a new game
     private void refreshAll() {
-        pileViews.forEach(PileView::refresh);
-        foundationViews.forEach(FoundationView::refresh);
-        stockViews.forEach(StockView::refresh);
+        game.takeDirty();
+        redrawPiles(SpiderGame.ALL_PILES);
+    }
+
+    // Bits are SpiderState pile numbers: tableaux, foundations, stock
+    private void redrawPiles(int dirty) {
+        if (canvas != null) canvas.refresh();
+        for (int i = 0; i < pileViews.size(); i++) {
+            if ((dirty & 1 << i) != 0) pileViews.get(i).refresh();
+        }
+        for (int f = 0; f < foundationViews.size(); f++) {
+            if ((dirty & 1 << (SpiderState.FOUNDATION_BASE + f)) != 0) foundationViews.get(f).refresh();
+        }
+        if ((dirty & 1 << SpiderState.STOCK) != 0) {
+            stockViews.forEach(StockView::refresh);
+        }
+        if (hintWanted && hintText != null) showHint();
     }
 
 
@@ -148,28 +301,31 @@ public class SpiderController {
             selectedFrom = idx;
 
             // Highlight only the top card in this pile
+            if (canvas != null) {
+                canvas.select(idx, game.tableaux.get(idx).getCards().size() - 1);
+                return;
+            }
             selectedCardNode = pileViews.get(idx).getTopCardNode();
             if (selectedCardNode != null) {
-                String base = selectedCardNode.getStyle();
-                selectedCardNode.setStyle(base + """
-                -fx-border-color: gold;
-                -fx-border-width: 2;
-            """);
+                selectedCardNode.getStyleClass().add("selected");
             }
             return;
         }
 
         // Attempt move TO this pile
+        stopHint();
         tryMoveLongestRun(selectedFrom, idx);
 
         // Clear highlight
-        if (selectedFrom >= 0 && selectedFrom < pileViews.size()) {
-            pileViews.get(selectedFrom).refresh();
+        // Piles keep unchanged card nodes now, so drop the class here
+        if (selectedCardNode != null) {
+            selectedCardNode.getStyleClass().remove("selected");
         }
+        if (canvas != null) canvas.select(-1, -1);
         selectedFrom = null;
         selectedCardNode = null;
 
-        refreshAll();
+        flusher.request();
         if (game.isWin()) {
             if (events != null) events.onWin();
         }
@@ -178,46 +334,33 @@ public class SpiderController {
     private void tryMoveLongestRun(int fromIdx, int toIdx) {
         if (fromIdx == toIdx) return;
 
+        // Longest legal run, checked without moving anything
+        int moveCount = game.longestLegalCount(fromIdx, toIdx);
+        if (moveCount == 0) return;
+
         var from = game.tableaux.get(fromIdx);
         int size = from.getCards().size();
-        if (size == 0) return;
-
-        // Longest face-up, same-suit, descending tail
-        int max = 1;
-        for (int k = size - 1; k > 0; k--) {
-            Card above = from.getCards().get(k);
-            Card below = from.getCards().get(k - 1);
-            if (!below.isFaceUp() || !above.isFaceUp()
-                    || below.getSuit() != above.getSuit()
-                    || below.getRank() != above.getRank() + 1) break;
-            max++;
-        }
+        List<Card> cards = new ArrayList<>(from.getCards().subList(size - moveCount, size));
+
+        // The position after the move is known now, so the hint
+        // search can run while the cards are in the air
+        startHint(game.snapshot(), SpiderState.encodeMove(fromIdx, moveCount, toIdx), MOVE_MILLIS);
+
+        // Updated 11/19/25 to record moves and score
+        animateMove(fromIdx, toIdx, cards, () -> {
+            // moveRun takes out completed runs itself
+            game.moveRun(fromIdx, moveCount, toIdx);
+            if (events != null) {
+                events.onMove();
+                events.onScore(5);
+            }
 
-        for (int c = max; c >= 1; c--) {
-            final int moveCount = c;
-            List<Card> cards =
-                    new ArrayList<>(from.getCards().subList(size - c, size));
-
-            if (game.moveRun(fromIdx, moveCount, toIdx)) {
-                game.undo(); // Test
-
-                // Updated 11/19/25 to record moves and score
-                animateMove(fromIdx, toIdx, cards, () -> {
-                    game.moveRun(fromIdx, moveCount, toIdx);
-                    game.extractCompletedRuns();
-                    if (events != null) {
-                        events.onMove();
-                        events.onScore(5);
-                    }
-
-                    refreshAll();
-                    animating = false;
-                    if (game.isWin()) {
-                        if (events != null) events.onWin();
-                    }
-                });
+            flusher.request();
+            animating = false;
+            if (game.isWin()) {
+                if (events != null) events.onWin();
             }
-        }
+        });
     }
 
     // Animation helpers
@@ -226,19 +369,15 @@ public class SpiderController {
         var box = new javafx.scene.layout.VBox(0);
         for (int i = 0; i < cards.size(); i++) {
             Card c = cards.get(i);
-            String text;
-            if (!c.isFaceUp()) {
-                text = "🂠";
-            } else {
-                String r = switch (c.getRank()) {
-                    case 1 -> "A"; case 11 -> "J"; case 12 -> "Q"; case 13 -> "K";
-                    default -> String.valueOf(c.getRank());
-                };
-                String s = switch (c.getSuit()) {
-                    case SPADES -> "♠"; case HEARTS -> "♥"; case DIAMONDS -> "♦"; case CLUBS -> "♣";
-                };
-                text = r + s;
-            }
+            // Only face-up runs are ever lifted
+            String r = switch (c.getRank()) {
+                case 1 -> "A"; case 11 -> "J"; case 12 -> "Q"; case 13 -> "K";
+                default -> String.valueOf(c.getRank());
+            };
+            String s = switch (c.getSuit()) {
+                case SPADES -> "♠"; case HEARTS -> "♥"; case DIAMONDS -> "♦"; case CLUBS -> "♣";
+            };
+            String text = r + s;
             var node = Basics.card(text);
 
             // Theme-based text color
@@ -254,6 +393,12 @@ public class SpiderController {
     private void animateMove(int fromIdx, int toIdx, List<Card> cards, Runnable onFinished) {
         animating = true;
 
+        // The canvas has no pile nodes to fly between
+        if (canvas != null) {
+            onFinished.run();
+            return;
+        }
+
         var ghost = buildGhost(cards);
         overlay.getChildren().add(ghost);
 
@@ -267,13 +412,13 @@ public class SpiderController {
         ghost.setLayoutX(start.getX());
         ghost.setLayoutY(start.getY());
 
-        TranslateTransition tt = new TranslateTransition(Duration.millis(220), ghost);
+        TranslateTransition tt = new TranslateTransition(Duration.millis(MOVE_MILLIS), ghost);
         tt.setFromX(0); tt.setFromY(0);
         tt.setToX(end.getX() - start.getX());
         tt.setToY(end.getY() - start.getY());
         tt.setInterpolator(Interpolator.EASE_BOTH);
 
-        FadeTransition ft = new FadeTransition(Duration.millis(220), ghost);
+        FadeTransition ft = new FadeTransition(Duration.millis(MOVE_MILLIS), ghost);
         ft.setFromValue(0.85);
         ft.setToValue(0.95);
 
@@ -287,6 +432,5 @@ public class SpiderController {
 
     public SpiderController(GameEvents events) {
         this.events = events;
-        this.game = new SpiderGame();
     }
 }
\ No newline at end of file
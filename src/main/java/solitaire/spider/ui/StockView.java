@@ -25,6 +25,7 @@ import solitaire.spider.model.Card;
 
 public class StockView extends VBox {
     private final Pile stock;
+    private int shownSize = -1;
 
     public StockView(Pile stock) {
         this.stock = stock;
@@ -38,6 +39,11 @@ public class StockView extends VBox {
     }
 
     public void refresh() {
+        // Only the card count is shown, so nothing to do if it is the same
+        int size = stock.getCards().size();
+        if (size == shownSize) return;
+        shownSize = size;
+
         getChildren().clear();
 
         // Show face-down cards if left
@@ -46,12 +52,10 @@ public class StockView extends VBox {
             getChildren().add(back);
         }
         else {
-            StackPane slot = Basics.card(" ");
-            slot.setStyle("""
-                -fx-background-color: rgba(255,255,255,0.2);
-                -fx-border-color: #cccccc;
-                -fx-background-radius: 8; -fx-border-radius: 8;
-            """);
+            StackPane slot = new StackPane();
+            slot.setMinSize(64, 90);
+            slot.setMaxSize(64, 90);
+            slot.getStyleClass().add("card-slot");
             getChildren().add(slot);
         }
 
@@ -65,14 +69,8 @@ public class StockView extends VBox {
         StackPane back = new StackPane();
         back.setMinSize(64, 90);
         back.setMaxSize(64, 90);
-        back.setStyle("""
-            -fx-background-color: linear-gradient(#2456a6,#123269);
-            -fx-border-color: #0d2247;
-            -fx-background-radius: 8; -fx-border-radius: 8;
-            -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.25), 6, 0, 0, 2);
-        """);
+        back.getStyleClass().add("card-back");
         Label dots = new Label("🕷");
-        dots.setStyle("-fx-text-fill: rgba(255,255,255,0.85); -fx-font-size: 20px;");
         back.getChildren().add(dots);
         return back;
     }